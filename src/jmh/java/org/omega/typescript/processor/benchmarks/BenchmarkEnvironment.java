@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.benchmarks;
+
+import com.sun.source.util.JavacTask;
+import org.omega.typescript.processor.cache.ModelCache;
+import org.omega.typescript.processor.model.EndpointContainer;
+import org.omega.typescript.processor.model.TypeOracle;
+import org.omega.typescript.processor.services.ProcessingContext;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Processing environment backed by an analyzed {@link JavacTask}, lets the benchmarks drive the processor
+ * phases directly. Generated files are counted and discarded.
+ */
+public class BenchmarkEnvironment implements ProcessingEnvironment {
+
+    // ------------------ Fields     --------------------
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final InMemoryFiler filer = new InMemoryFiler();
+
+    private final Messager messager = new SilentMessager();
+
+    // ------------------ Properties --------------------
+
+    public long getWrittenBytes() {
+        return filer.writtenBytes.get();
+    }
+
+    // ------------------ Logic      --------------------
+
+    private BenchmarkEnvironment(final JavacTask task) {
+        this.elements = task.getElements();
+        this.types = task.getTypes();
+    }
+
+    /**
+     * Parses and attributes the sources without running annotation processors
+     */
+    public static BenchmarkEnvironment analyze(final Collection<JavaFileObject> sources) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final List<String> options = List.of("-proc:none", "-classpath", System.getProperty("java.class.path"));
+        final JavacTask task = (JavacTask) compiler.getTask(null, null, diagnostics, options, null, sources);
+        try {
+            task.analyze();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to analyze synthetic sources", e);
+        }
+        diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .findFirst()
+                .ifPresent(d -> {
+                    throw new IllegalStateException("Synthetic sources don't compile: " + d);
+                });
+        return new BenchmarkEnvironment(task);
+    }
+
+    /**
+     * @return context with an empty model, the same way a new processing session starts
+     */
+    public ProcessingContext newContext() {
+        final TypeOracle oracle = new TypeOracle();
+        final ProcessingContext context = new ProcessingContext(this, oracle, new EndpointContainer(), new ModelCache());
+        oracle.initContext(context);
+        return context;
+    }
+
+    public TypeElement getTypeElement(final String className) {
+        return elements.getTypeElement(className);
+    }
+
+    @Override
+    public Map<String, String> getOptions() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Messager getMessager() {
+        return messager;
+    }
+
+    @Override
+    public Filer getFiler() {
+        return filer;
+    }
+
+    @Override
+    public Elements getElementUtils() {
+        return elements;
+    }
+
+    @Override
+    public Types getTypeUtils() {
+        return types;
+    }
+
+    @Override
+    public SourceVersion getSourceVersion() {
+        return SourceVersion.RELEASE_21;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return Locale.getDefault();
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    private static class SilentMessager implements Messager {
+        @Override
+        public void printMessage(final Diagnostic.Kind kind, final CharSequence msg) {
+            if (kind == Diagnostic.Kind.ERROR) {
+                throw new IllegalStateException(msg.toString());
+            }
+        }
+
+        @Override
+        public void printMessage(final Diagnostic.Kind kind, final CharSequence msg, final Element e) {
+            printMessage(kind, msg);
+        }
+
+        @Override
+        public void printMessage(final Diagnostic.Kind kind, final CharSequence msg, final Element e, final AnnotationMirror a) {
+            printMessage(kind, msg);
+        }
+
+        @Override
+        public void printMessage(final Diagnostic.Kind kind, final CharSequence msg, final Element e, final AnnotationMirror a, final AnnotationValue v) {
+            printMessage(kind, msg);
+        }
+    }
+
+    private static class InMemoryFiler implements Filer {
+
+        private final AtomicLong writtenBytes = new AtomicLong();
+
+        @Override
+        public JavaFileObject createSourceFile(final CharSequence name, final Element... originatingElements) {
+            throw new UnsupportedOperationException("Benchmarks don't generate sources");
+        }
+
+        @Override
+        public JavaFileObject createClassFile(final CharSequence name, final Element... originatingElements) {
+            throw new UnsupportedOperationException("Benchmarks don't generate classes");
+        }
+
+        @Override
+        public FileObject createResource(final JavaFileManager.Location location, final CharSequence moduleAndPkg,
+                                         final CharSequence relativeName, final Element... originatingElements) {
+            return new SimpleJavaFileObject(URI.create("mem:///" + relativeName), JavaFileObject.Kind.OTHER) {
+                @Override
+                public OutputStream openOutputStream() {
+                    return new OutputStream() {
+                        @Override
+                        public void write(final int b) {
+                            writtenBytes.incrementAndGet();
+                        }
+
+                        @Override
+                        public void write(final byte[] b, final int off, final int len) {
+                            writtenBytes.addAndGet(len);
+                        }
+                    };
+                }
+            };
+        }
+
+        @Override
+        public FileObject getResource(final JavaFileManager.Location location, final CharSequence moduleAndPkg,
+                                      final CharSequence relativeName) throws IOException {
+            if (location != StandardLocation.CLASS_PATH || getClass().getClassLoader().getResource(relativeName.toString()) == null) {
+                throw new FileNotFoundException(relativeName.toString());
+            }
+            final String resourceName = relativeName.toString();
+            return new SimpleJavaFileObject(URI.create("mem:///" + resourceName), JavaFileObject.Kind.OTHER) {
+                @Override
+                public InputStream openInputStream() {
+                    return InMemoryFiler.class.getClassLoader().getResourceAsStream(resourceName);
+                }
+
+                @Override
+                public CharSequence getCharContent(final boolean ignoreEncodingErrors) throws IOException {
+                    try (InputStream stream = openInputStream()) {
+                        return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+                    }
+                }
+            };
+        }
+    }
+}
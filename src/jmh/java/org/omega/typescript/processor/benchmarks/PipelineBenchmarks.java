@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.benchmarks;
+
+import org.omega.typescript.processor.SyntheticCodebaseGenerator;
+import org.omega.typescript.processor.builders.EndpointDefinitionBuilder;
+import org.omega.typescript.processor.builders.properties.PropertyDefinitionBuilder;
+import org.omega.typescript.processor.emitters.TypeScriptEmitter;
+import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.model.TypeKind;
+import org.omega.typescript.processor.services.GenConfigBasedNamingStrategy;
+import org.omega.typescript.processor.services.ProcessingContext;
+import org.omega.typescript.processor.utils.AnnotationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the processor phases on a synthetic code base. Every invocation starts with an empty model,
+ * run with the gc profiler to see the allocation rate next to the timings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineBenchmarks {
+
+    // ------------------ Fields     --------------------
+
+    @Param({"20"})
+    public int controllers;
+
+    @Param({"10"})
+    public int dtosPerController;
+
+    private final SyntheticCodebaseGenerator generator = new SyntheticCodebaseGenerator();
+
+    private BenchmarkEnvironment environment;
+
+    private final List<TypeElement> controllerTypes = new ArrayList<>();
+
+    private final List<TypeElement> dtoTypes = new ArrayList<>();
+
+    private final List<ExecutableElement> controllerMethods = new ArrayList<>();
+
+    private ProcessingContext context;
+
+    // ------------------ Logic      --------------------
+
+    @Setup(Level.Trial)
+    public void setUpEnvironment() {
+        generator.setControllers(controllers);
+        generator.setDtosPerController(dtosPerController);
+        environment = BenchmarkEnvironment.analyze(generator.generate());
+        for (int controller = 0; controller < controllers; ++controller) {
+            final TypeElement controllerType = environment.getTypeElement(
+                    generator.getApiPackage() + "." + generator.getControllerName(controller));
+            controllerTypes.add(controllerType);
+            controllerType.getEnclosedElements().stream()
+                    .filter(e -> e.getKind() == ElementKind.METHOD)
+                    .forEach(e -> controllerMethods.add((ExecutableElement) e));
+            for (int dto = 0; dto < dtosPerController; ++dto) {
+                dtoTypes.add(environment.getTypeElement(
+                        generator.getDtoPackage() + "." + generator.getDtoName(controller, dto)));
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpContext() {
+        context = environment.newContext();
+    }
+
+    @Benchmark
+    public void buildEndpoints(final Blackhole blackhole) {
+        final EndpointDefinitionBuilder builder = new EndpointDefinitionBuilder(context);
+        for (final TypeElement controllerType : controllerTypes) {
+            blackhole.consume(builder.buildEndpoint(controllerType));
+        }
+    }
+
+    @Benchmark
+    public void defineTypes(final Blackhole blackhole) {
+        for (final TypeElement dtoType : dtoTypes) {
+            blackhole.consume(context.getTypeOracle().getOrDefineType(dtoType));
+        }
+    }
+
+    @Benchmark
+    public void resolveAnnotations(final Blackhole blackhole) {
+        for (final ExecutableElement method : controllerMethods) {
+            blackhole.consume(AnnotationUtils.resolveAnnotation(RequestMapping.class, method, context));
+        }
+    }
+
+    @Benchmark
+    public void buildProperties(final Blackhole blackhole) {
+        final PropertyDefinitionBuilder builder = new PropertyDefinitionBuilder(context);
+        for (final TypeElement dtoType : dtoTypes) {
+            blackhole.consume(builder.buildProperties(dtoType));
+        }
+    }
+
+    /**
+     * Rendering and naming run against a fully built model, only the rendering state is reset per invocation
+     */
+    @State(Scope.Benchmark)
+    public static class BuiltModel {
+
+        private ProcessingContext context;
+
+        private TypeScriptEmitter emitter;
+
+        private GenConfigBasedNamingStrategy namingStrategy;
+
+        private List<TypeDefinition> types;
+
+        @Setup(Level.Trial)
+        public void setUpModel(final PipelineBenchmarks benchmarks) {
+            context = benchmarks.environment.newContext();
+            benchmarks.controllerTypes.forEach(type -> context.getEndpointContainer().buildEndpoint(type, context));
+            types = context.getTypeOracle().getKnownTypes().stream()
+                    .filter(t -> !t.isPredefined())
+                    .filter(t -> t.getTypeKind() == TypeKind.INTERFACE || t.getTypeKind() == TypeKind.ENUM)
+                    .sorted(Comparator.comparing(TypeDefinition::getFullName))
+                    .toList();
+            emitter = new TypeScriptEmitter();
+            emitter.initContext(context);
+            namingStrategy = new GenConfigBasedNamingStrategy(context);
+        }
+
+        @Setup(Level.Invocation)
+        public void markTypesDirty() {
+            types.forEach(context.getTypeOracle()::markDirty);
+        }
+    }
+
+    @Benchmark
+    public void renderTypes(final BuiltModel model) {
+        model.emitter.renderTypes(model.context.getTypeOracle(), model.context.getEndpointContainer());
+    }
+
+    @Benchmark
+    public void resolvePaths(final BuiltModel model, final Blackhole blackhole) {
+        final List<TypeDefinition> types = model.types;
+        for (int index = 0; index < types.size(); ++index) {
+            final TypeDefinition from = types.get(index);
+            blackhole.consume(model.namingStrategy.getFullTypeFileName(from));
+            blackhole.consume(model.namingStrategy.getRelativeFileName(from, types.get((index + 1) % types.size())));
+        }
+    }
+}
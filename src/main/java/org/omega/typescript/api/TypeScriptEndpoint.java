@@ -30,7 +30,7 @@ import java.lang.annotation.Target;
 /**
  * Created by kibork on 1/22/2018.
  */
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Target(ElementType.TYPE)
 public @interface TypeScriptEndpoint {
     String name() default "";
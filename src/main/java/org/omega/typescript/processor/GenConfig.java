@@ -24,8 +24,15 @@ package org.omega.typescript.processor;
 
 import com.sun.source.util.TreePath;
 import com.sun.source.util.Trees;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Phase;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.PhaseTimer;
+import org.omega.typescript.processor.services.ExclusionMatcher;
+import org.omega.typescript.processor.services.OutputLayout;
 import org.omega.typescript.processor.services.ProcessingContext;
+import org.omega.typescript.processor.services.TypeBudget;
+import org.omega.typescript.processor.utils.IOUtils;
 import org.omega.typescript.processor.utils.StringUtils;
 import org.omega.typescript.processor.utils.TypeUtils;
 
@@ -37,11 +44,15 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Created by kibork on 5/16/2018.
@@ -53,6 +64,11 @@ public class GenConfig {
 
     public static final String CONFIG_FILE = "tsg-config.properties";
 
+    /**
+     * Processor option with the path of the config file, skips the lookup from the endpoint sources
+     */
+    public static final String CONFIG_OPTION = "tsg.config";
+
     private final ProcessingContext context;
 
     public static final String INTERNAL_PROP_PREFIX = "tsg.";
@@ -79,6 +95,11 @@ public class GenConfig {
 
     private String storageStrategy = "javac";
 
+    /**
+     * Archive written by the archive storage strategy, relative to the output folder
+     */
+    private String archiveFileName = "typescript-api.zip";
+
     private String zonedDateTimeType;
 
     private String localDateTimeType;
@@ -91,10 +112,62 @@ public class GenConfig {
 
     private Map<String, Pattern> excludedClasses = new HashMap<>();
 
+    @Getter(AccessLevel.NONE)
+    private ExclusionMatcher exclusionMatcher;
+
     private Map<String, String> typeOverrides = new HashMap<>();
 
     private long indentWidth = 2;
 
+    private boolean modelCacheEnabled = false;
+
+    private int renderParallelism = 1;
+
+    /**
+     * Type expansion budgets, 0 is unlimited
+     */
+    private int budgetMaxTypes = 0;
+
+    private int budgetMaxTypesPerEndpoint = 0;
+
+    private int budgetMaxDepth = 0;
+
+    private int budgetMaxProperties = 0;
+
+    private boolean budgetFailBuild = false;
+
+    private boolean pruneUnreachableTypes = true;
+
+    private OutputLayout outputLayout = OutputLayout.PER_TYPE;
+
+    /**
+     * Base name of the shared type files unless the layout is per type
+     */
+    private String bundleFileName = "types";
+
+    /**
+     * Write tsg-manifest.sha256 and use it to skip unchanged and delete stale local files
+     */
+    private boolean manifestEnabled = false;
+
+    /**
+     * Threads writing the rendered files in the background, 0 writes on the rendering thread
+     */
+    private int writeBehindThreads = 0;
+
+    private int writeBehindQueueSize = 64;
+
+    /**
+     * Every property read so far, used to detect configuration changes between compilations
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> loadedProperties = new TreeMap<>();
+
+    /**
+     * Where the project config was loaded from, null until one is found
+     */
+    private String configLocation;
+
     // ------------------ Properties --------------------
 
     public String getDefaultModuleName() {
@@ -110,12 +183,31 @@ public class GenConfig {
     }
 
 
+    /**
+     * @return matcher for the current exclusions, rebuilt after the exclusions change
+     */
+    public synchronized ExclusionMatcher getExclusionMatcher() {
+        if (exclusionMatcher == null) {
+            exclusionMatcher = new ExclusionMatcher(excludedClasses.values());
+        }
+        return exclusionMatcher;
+    }
+
     // ------------------ Logic      --------------------
 
 
     public GenConfig(final ProcessingContext context) {
         this.context = context;
-        loadDefaultConfig();
+        try (PhaseTimer ignored = context.getMetrics().start(Phase.CONFIG)) {
+            loadDefaultConfig();
+        }
+    }
+
+    public String getFingerprint() {
+        final String content = loadedProperties.entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining("\n"));
+        return HexFormat.of().formatHex(IOUtils.sha256(content.getBytes(StandardCharsets.UTF_8)));
     }
 
     public boolean load(final File file) {
@@ -124,6 +216,7 @@ public class GenConfig {
         }
         try (InputStream stream = new FileInputStream(file)) {
             load(stream);
+            configLocation = file.getAbsolutePath();
             return true;
         } catch (Exception ex) {
             context.warning("Failed to read file " + file + "\n" + StringUtils.exceptionToString(ex));
@@ -136,6 +229,7 @@ public class GenConfig {
             final Properties properties = new Properties();
             properties.load(configData);
             properties.forEach((key, value) -> {
+                loadedProperties.put(key.toString().trim(), value.toString().trim());
                 if (key.toString().startsWith(INTERNAL_PROP_PREFIX)) {
                     final String tsgProperty = key.toString().substring(INTERNAL_PROP_PREFIX.length()).trim();
                     readTsgProperty(tsgProperty, value.toString().trim());
@@ -182,8 +276,40 @@ public class GenConfig {
             dateType = value;
         } else if ("storage-strategy".equals(propertyName)) {
             storageStrategy = value;
+        } else if ("archive.file-name".equalsIgnoreCase(propertyName)) {
+            archiveFileName = value;
         } else if (propertyName.startsWith("exclude-classes-regex")) {
             addExcludeFilter(value, propertyName.substring("exclude-classes-regex".length()));
+        } else if ("render.parallelism".equalsIgnoreCase(propertyName)) {
+            final int parallelism = Integer.parseInt(value);
+            renderParallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        } else if (TypeBudget.MAX_TYPES.equalsIgnoreCase(propertyName)) {
+            budgetMaxTypes = Integer.parseInt(value);
+        } else if (TypeBudget.MAX_TYPES_PER_ENDPOINT.equalsIgnoreCase(propertyName)) {
+            budgetMaxTypesPerEndpoint = Integer.parseInt(value);
+        } else if (TypeBudget.MAX_DEPTH.equalsIgnoreCase(propertyName)) {
+            budgetMaxDepth = Integer.parseInt(value);
+        } else if (TypeBudget.MAX_PROPERTIES.equalsIgnoreCase(propertyName)) {
+            budgetMaxProperties = Integer.parseInt(value);
+        } else if ("budget.action".equalsIgnoreCase(propertyName)) {
+            budgetFailBuild = "fail".equalsIgnoreCase(value);
+        } else if ("storage.write-behind.threads".equalsIgnoreCase(propertyName)) {
+            writeBehindThreads = Integer.parseInt(value);
+        } else if ("storage.write-behind.queue-size".equalsIgnoreCase(propertyName)) {
+            writeBehindQueueSize = Math.max(1, Integer.parseInt(value));
+        } else if ("output.layout".equalsIgnoreCase(propertyName)) {
+            outputLayout = OutputLayout.fromValue(value).orElseGet(() -> {
+                context.error("Unknown tsg.output.layout " + value + ", expected per-type, per-package or per-module");
+                return OutputLayout.PER_TYPE;
+            });
+        } else if ("output.bundle-name".equalsIgnoreCase(propertyName)) {
+            bundleFileName = value;
+        } else if ("output.manifest".equalsIgnoreCase(propertyName)) {
+            manifestEnabled = Boolean.parseBoolean(value);
+        } else if ("output.prune-unreachable".equalsIgnoreCase(propertyName)) {
+            pruneUnreachableTypes = Boolean.parseBoolean(value);
+        } else if ("model-cache".equalsIgnoreCase(propertyName)) {
+            modelCacheEnabled = Boolean.parseBoolean(value);
         } else if ("indent.width".equalsIgnoreCase(propertyName)) {
             indentWidth = Long.valueOf(value);
         } else if (propertyName.startsWith("primitive.")) {
@@ -200,6 +326,7 @@ public class GenConfig {
         } else if (excludeName.startsWith(".")) {
             excludeName = excludeName.substring(1);
         }
+        exclusionMatcher = null;
         if (!StringUtils.hasText(value)) {
             excludedClasses.remove(excludeName);
         } else {
@@ -223,6 +350,7 @@ public class GenConfig {
             }
             if (config != null) {
                 load(config);
+                configLocation = "classpath:" + resourceName;
             }
         } catch (Exception ex) {
             //
@@ -240,10 +368,42 @@ public class GenConfig {
     }
 
 
-    public void tryLoadConfig(final TypeElement type) {
+    /**
+     * Loads the config file passed with -Atsg.config
+     * @return false if the option isn't set and the config has to be looked up from the sources
+     */
+    public boolean tryLoadOptionConfig() {
+        final String path = context.getProcessingEnv().getOptions().get(CONFIG_OPTION);
+        if (!StringUtils.hasText(path)) {
+            return false;
+        }
+        try (PhaseTimer ignored = context.getMetrics().start(Phase.CONFIG)) {
+            if (!load(new File(path))) {
+                context.error("Type Script Generator config file " + path + " passed with -A" + CONFIG_OPTION + " doesn't exist or can't be read");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Looks up the tsg-config.properties file starting at the source folder of the given type
+     * @return false if the type has no source (e.g. it was loaded from a class file during
+     * incremental compilation) and the lookup should be retried with another type
+     */
+    public boolean tryLoadConfig(final TypeElement type) {
+        try (PhaseTimer ignored = context.getMetrics().start(Phase.CONFIG)) {
+            return loadSourceConfig(type);
+        }
+    }
+
+    private boolean loadSourceConfig(final TypeElement type) {
         try {
             final Trees trees = Trees.instance(context.getProcessingEnv());
             final TreePath path = trees.getPath(type);
+            if (path == null) {
+                context.debug("No source available for " + TypeUtils.getClassName(type) + ", skipping config lookup");
+                return false;
+            }
             final JavaFileObject sourceFile = path.getCompilationUnit().getSourceFile();
             final URI uri = sourceFile.toUri();
             final String scheme = uri.getScheme();
@@ -254,7 +414,7 @@ public class GenConfig {
                     context.error("File " + file + " doesn't exists");
                 }
                 File dir = file.getParentFile();
-                while (dir.exists()) {
+                while ((dir != null) && dir.exists()) {
                     final File configFile = new File(dir, CONFIG_FILE);
                     if (configFile.exists()) {
                         context.debug("Found Type Script Generator config at " + configFile);
@@ -267,8 +427,10 @@ public class GenConfig {
                 context.warning("Annotated class " + TypeUtils.getClassName(type) +
                         " is in exotic location. JavaFileObject kind: " + sourceFile.getKind() + ", name = " + sourceFile.getName() + ", uri = " + uri + ", scheme '" + scheme + "'");
             }
+            return true;
         } catch (Exception e) {
             context.debug("Unable to load javac compilation unit info. Likely local build.\n" + StringUtils.exceptionToString(e));
+            return false;
         }
     }
 }
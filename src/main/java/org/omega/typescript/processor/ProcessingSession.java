@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.omega.typescript.processor;
+
+import org.omega.typescript.api.TypeScriptEndpoint;
+import org.omega.typescript.processor.cache.ModelCache;
+import org.omega.typescript.processor.metrics.ProcessingMetrics;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Counter;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Phase;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.PhaseTimer;
+import org.omega.typescript.processor.metrics.TypeGraphWriter;
+import org.omega.typescript.processor.services.ProcessingContext;
+import org.omega.typescript.processor.model.EndpointContainer;
+import org.omega.typescript.processor.model.TypeGraph;
+import org.omega.typescript.processor.model.TypeOracle;
+import org.omega.typescript.processor.emitters.Emitter;
+import org.omega.typescript.processor.emitters.TypeScriptEmitter;
+import org.omega.typescript.processor.utils.IOUtils;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * State of a single compilation. A session is opened when the processor is initialized with a
+ * {@link ProcessingEnvironment} and closed once the last round is over, so concurrent compilations in the
+ * same JVM (e.g. a Gradle daemon building several modules) never share the model. The session is only referenced
+ * by its processor instance, so a compilation aborted before the last round leaves nothing reachable behind.
+ */
+public final class ProcessingSession {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    private final EndpointContainer endpointContainer = new EndpointContainer();
+
+    private final TypeOracle oracle = new TypeOracle();
+
+    private final ModelCache modelCache = new ModelCache();
+
+    private final Emitter emitter = new TypeScriptEmitter();
+
+    private ProcessingEnvironment processingEnv;
+
+    private ProcessingContext context;
+
+    private boolean initialized = false;
+
+    // ------------------ Properties --------------------
+
+    public EndpointContainer getEndpointContainer() {
+        return endpointContainer;
+    }
+
+    public TypeOracle getOracle() {
+        return oracle;
+    }
+
+    public ModelCache getModelCache() {
+        return modelCache;
+    }
+
+    public boolean isClosed() {
+        return context == null;
+    }
+
+    // ------------------ Logic      --------------------
+
+    public ProcessingSession(final ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+        this.context = new ProcessingContext(processingEnv, oracle, endpointContainer, modelCache);
+    }
+
+    public void process(final RoundEnvironment roundEnv) {
+        if (isClosed()) {
+            throw new IllegalStateException("Processing session is already closed");
+        }
+        final List<TypeElement> endpoints = collectRoundEndpoints(roundEnv);
+        if (endpoints.isEmpty()) {
+            return;
+        }
+
+        try (PhaseTimer ignored = context.getMetrics().start(Phase.TOTAL)) {
+            final List<TypeElement> newEndpoints = endpoints.stream()
+                    .filter(type -> !endpointContainer.hasEndpoint(type.getQualifiedName().toString()))
+                    .collect(toList());
+            if (newEndpoints.isEmpty()) {
+                return;
+            }
+            if (!initialized) {
+                loadConfig(newEndpoints, roundEnv);
+                oracle.initContext(context);
+                modelCache.load(context);
+                initialized = true;
+            }
+            newEndpoints.forEach(type -> endpointContainer.buildEndpoint(type, context));
+
+            if (oracle.hasDirtyTypes() || endpointContainer.hasDirtyEndpoints()) {
+                emitter.initContext(context);
+                emitter.renderTypes(oracle, endpointContainer);
+                emitter.renderEndpoints(endpointContainer);
+            }
+        } catch (Exception ex) {
+            final StringWriter out = new StringWriter();
+            try (PrintWriter exWriter = new PrintWriter(out)) {
+                ex.printStackTrace(exWriter);
+            }
+            context.error("Exception while processing Type Script Generator annotations:" + ex.getMessage()
+                    + "\n" + out.toString());
+        }
+    }
+
+    /**
+     * Stores the model cache and releases every reference to the javac environment.
+     * The resolved model stays available for inspection
+     */
+    public void close() {
+        if (isClosed()) {
+            return;
+        }
+        try {
+            emitter.flush();
+            emitter.reportStatistics();
+            modelCache.save(oracle, endpointContainer);
+            context.debug("Type Script Generator: " + context.getGenConfig().getExclusionMatcher());
+            context.debug("Type Script Generator: " + context.getAnnotationCache());
+            reportMetrics();
+            exportTypeGraph();
+        } finally {
+            modelCache.clear();
+            emitter.clear();
+            oracle.releaseContext();
+            context = null;
+            processingEnv = null;
+        }
+    }
+
+    private void reportMetrics() {
+        final ProcessingMetrics metrics = context.getMetrics();
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        metrics.add(Counter.TYPES_RESTORED, modelCache.getRestoredTypes());
+        metrics.add(Counter.ENDPOINTS_RESTORED, modelCache.getRestoredEndpoints());
+        metrics.add(Counter.ANNOTATION_CACHE_HITS, context.getAnnotationCache().getHits());
+        metrics.add(Counter.ANNOTATION_CACHE_MISSES, context.getAnnotationCache().getMisses());
+        metrics.add(Counter.EXCLUSION_CACHE_HITS, context.getGenConfig().getExclusionMatcher().getHits());
+        metrics.add(Counter.EXCLUSION_CACHE_MISSES, context.getGenConfig().getExclusionMatcher().getMisses());
+        context.debug(metrics.getSummary());
+
+        writeReport(ProcessingMetrics.REPORT_FILE_NAME, "metrics report", metrics::writeReport);
+    }
+
+    private void exportTypeGraph() {
+        if (!context.getOutputSizes().isEnabled()) {
+            return;
+        }
+        final TypeGraph graph = TypeGraph.build(endpointContainer.getEndpointMap().values(), oracle.getKnownTypes());
+        final TypeGraphWriter graphWriter = new TypeGraphWriter(graph, context.getOutputSizes());
+        writeReport(TypeGraphWriter.JSON_FILE_NAME, "type graph", graphWriter::writeJson);
+        writeReport(TypeGraphWriter.DOT_FILE_NAME, "type graph", graphWriter::writeDot);
+    }
+
+    /**
+     * Writes a diagnostic report into the generated sources folder, failures are only reported as warnings
+     */
+    private void writeReport(final String fileName, final String description, final ReportContent content) {
+        try {
+            final Path reportFile = IOUtils.resolveSourceOutputPath(fileName, context);
+            Files.createDirectories(reportFile.getParent());
+            try (Writer out = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+                content.write(out);
+            }
+            context.debug("Type Script Generator: " + description + " written to " + reportFile);
+        } catch (IOException | IllegalStateException ex) {
+            context.warning("Type Script Generator: unable to write the " + description + ": " + ex.getMessage());
+        }
+    }
+
+    private List<TypeElement> collectRoundEndpoints(RoundEnvironment roundEnv) {
+        final Set<? extends Element> annotated = roundEnv.getElementsAnnotatedWith(TypeScriptEndpoint.class);
+        return annotated.stream()
+                .filter(element -> ElementKind.CLASS.equals(element.getKind()) || ElementKind.INTERFACE.equals(element.getKind()))
+                .map(element -> (TypeElement) element)
+                .collect(toList());
+    }
+
+    private void loadConfig(final List<TypeElement> endpoints, final RoundEnvironment roundEnv) {
+        final GenConfig config = context.getGenConfig();
+        if (!config.tryLoadOptionConfig()) {
+            // During incremental builds unchanged endpoints are reprocessed from class files, those have no source
+            // location to start the config lookup from. The sources recompiled in the round still have one
+            final Stream<TypeElement> rootTypes = roundEnv.getRootElements().stream()
+                    .filter(element -> element instanceof TypeElement)
+                    .map(element -> (TypeElement) element);
+            final boolean found = Stream.concat(endpoints.stream(), rootTypes)
+                    .anyMatch(config::tryLoadConfig);
+            if (!found) {
+                context.debug("Type Script Generator: none of the processed classes has a source location to look up " + GenConfig.CONFIG_FILE + " from");
+            }
+        }
+        if (config.getConfigLocation() == null) {
+            context.warning("Type Script Generator: no " + GenConfig.CONFIG_FILE + " found next to the processed sources, using the defaults. " +
+                    "Pass its path with -A" + GenConfig.CONFIG_OPTION + "=<path> when the sources may be compiled without their endpoints");
+        } else {
+            context.debug("Type Script Generator: using config " + config.getConfigLocation());
+        }
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    @FunctionalInterface
+    private interface ReportContent {
+        void write(Writer out) throws IOException;
+    }
+}
@@ -22,9 +22,14 @@
 
 package org.omega.typescript.processor;
 
+import org.omega.typescript.processor.metrics.ProcessingMetrics;
+import org.omega.typescript.processor.metrics.TypeGraphWriter;
+
 import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.TypeElement;
@@ -35,16 +40,29 @@ import java.util.Set;
  */
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
 @SupportedAnnotationTypes(value = {"org.omega.typescript.api.TypeScriptEndpoint"})
+@SupportedOptions(value = {GenConfig.CONFIG_OPTION, ProcessingMetrics.OPTION, TypeGraphWriter.OPTION})
 public class ServiceEndpointProcessor extends AbstractProcessor {
 
     // ------------------ Constants  --------------------
 
     // ------------------ Fields     --------------------
 
+    private ProcessingSession session;
+
     // ------------------ Properties --------------------
 
+    public ProcessingSession getSession() {
+        return session;
+    }
+
     // ------------------ Logic      --------------------
 
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        session = new ProcessingSession(processingEnv);
+    }
+
     @Override
     public Set<String> getSupportedAnnotationTypes() {
         return super.getSupportedAnnotationTypes();
@@ -55,7 +73,11 @@ public class ServiceEndpointProcessor extends AbstractProcessor {
         if (!isInitialized()) {
             throw new IllegalStateException("Annotation processor called before it was initialized");
         }
-        EndpointProcessorSingleton.getInstance().process(annotations, roundEnv, processingEnv);
+        if (roundEnv.processingOver()) {
+            session.close();
+        } else {
+            session.process(roundEnv);
+        }
         return false;
     }
 }
@@ -28,7 +28,6 @@ import org.omega.typescript.processor.services.ProcessingContext;
 import org.omega.typescript.processor.utils.AnnotationUtils;
 import org.omega.typescript.processor.utils.ResolvedAnnotationValues;
 import org.omega.typescript.processor.utils.StringUtils;
-import org.omega.typescript.processor.utils.TypeUtils;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
@@ -80,7 +79,7 @@ public class EndpointDefinitionBuilder {
     }
 
     private void readMethodDefinitions(TypeElement type, Endpoint endpoint) {
-        final List<ExecutableElement> methods = TypeUtils.getMethods(type, context);
+        final List<ExecutableElement> methods = context.getMemberIndex(type).getMethods();
         endpoint.setEndpointMethods(methods.stream()
                 .map(m -> methodDefinitionBuilder.build(endpoint, m))
                 .filter(Optional::isPresent)
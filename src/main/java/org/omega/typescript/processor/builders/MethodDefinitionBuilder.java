@@ -67,6 +67,7 @@ public class MethodDefinitionBuilder {
         final String methodName = getMethodName(methodElement);
 
         final EndpointMethod method = new EndpointMethod(endpoint, methodName, mappingDefinitionOption.get());
+        context.getTypeBudget().at(methodName + "()");
 
         defaultRequestMethod(endpoint, method);
 
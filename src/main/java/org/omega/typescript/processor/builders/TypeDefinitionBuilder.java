@@ -24,6 +24,10 @@ package org.omega.typescript.processor.builders;
 
 import org.omega.typescript.api.TypeScriptName;
 import org.omega.typescript.processor.builders.properties.PropertyDefinitionBuilder;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Counter;
+import org.omega.typescript.processor.metrics.TypeDefinitionBuilt;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Phase;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.PhaseTimer;
 import org.omega.typescript.processor.model.EnumConstant;
 import org.omega.typescript.processor.model.TypeDefinition;
 import org.omega.typescript.processor.model.TypeInstanceDefinition;
@@ -62,16 +66,24 @@ public class TypeDefinitionBuilder {
     }
 
     public TypeDefinition buildClassDefinition(final TypeElement type) {
-        final String className = type.getQualifiedName().toString().intern();
-        synchronized (className) {
-            final Optional<TypeDefinition> optionalDefinition = context.getTypeOracle().getType(className);
-            if (optionalDefinition.isPresent()) {
-                return optionalDefinition.get();
-            }
+        final String className = type.getQualifiedName().toString();
+        final Optional<TypeDefinition> optionalDefinition = context.getTypeOracle().getType(className);
+        if (optionalDefinition.isPresent()) {
+            return optionalDefinition.get();
+        }
+        final Optional<TypeDefinition> cachedDefinition = context.getModelCache().restoreType(className, context);
+        if (cachedDefinition.isPresent()) {
+            return cachedDefinition.get();
+        }
 
+        final TypeDefinitionBuilt event = new TypeDefinitionBuilt();
+        event.begin();
+        try (PhaseTimer ignored = context.getMetrics().start(Phase.TYPES)) {
             final TypeDefinition typeDefinition = new TypeDefinition(type.getQualifiedName().toString(), type.getSimpleName().toString());
             context.getTypeOracle().addType(typeDefinition);
             initializeTypeDefinition(typeDefinition, type);
+            context.getMetrics().increment(Counter.TYPES_BUILT);
+            event.complete(className, typeDefinition.getProperties().size());
             return typeDefinition;
         }
     }
@@ -89,7 +101,7 @@ public class TypeDefinitionBuilder {
     }
 
     private void initializeEnum(TypeDefinition typeDefinition, TypeElement typeElement) {
-        final List<Element> members = TypeUtils.getMembers(typeElement, ElementKind.ENUM_CONSTANT, context);
+        final List<Element> members = context.getMemberIndex(typeElement).getEnumConstants();
         typeDefinition.getEnumConstants().addAll(members.stream()
                 .map(e -> new EnumConstant(e.getSimpleName().toString()))
                 .toList()
@@ -104,6 +116,7 @@ public class TypeDefinitionBuilder {
                         propertyDefinitionBuilder.buildProperties(typeElement)
                 );
 
+        context.getTypeBudget().at("<extends>");
         readSuperclass(typeDefinition, typeElement);
 
         final List<? extends TypeMirror> interfaces = typeElement.getInterfaces();
@@ -131,6 +144,7 @@ public class TypeDefinitionBuilder {
         final TypeDefinition newGenericType = new TypeDefinition(TypeUtils.getGenericTypeName(typeDefinition, genericName), genericName);
         newGenericType.setTypeScriptName(genericName);
         newGenericType.setTypeKind(TypeKind.GENERIC_PLACEHOLDER);
+        context.getTypeBudget().at("<" + genericName + ">");
         typeElement.getBounds().forEach(t -> {
             //Adding each of the bounds as an super interface to the type
             newGenericType.getSuperTypes().add(context.getTypeOracle().buildInstance(t));
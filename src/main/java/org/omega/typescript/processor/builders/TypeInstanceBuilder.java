@@ -32,6 +32,7 @@ import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.TypeParameterElement;
 import javax.lang.model.type.*;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -54,7 +55,7 @@ public class TypeInstanceBuilder {
     }
 
     public TypeInstanceDefinition buildDefinition(final TypeElement typeElement) {
-        return new TypeInstanceDefinition(context.getTypeOracle().getOrDefineType(typeElement));
+        return context.getTypeOracle().getInstance(context.getTypeOracle().getOrDefineType(typeElement));
     }
 
     public TypeInstanceDefinition buildDefinition(final TypeMirror typeMirror) {
@@ -66,18 +67,17 @@ public class TypeInstanceBuilder {
             return createArray((ArrayType) typeMirror);
         } else {
             //If this is a simple case
-            final TypeInstanceDefinition typeInstance = new TypeInstanceDefinition(context.getTypeOracle().getOrDefineType(typeMirror));
-            if ((typeInstance.getTypeKind().hasTypeParams())) {
-                checkTypeParameters(typeInstance, typeMirror);
+            final TypeDefinition typeDefinition = context.getTypeOracle().getOrDefineType(typeMirror);
+            if ((typeDefinition.getTypeKind().hasTypeParams())) {
+                return context.getTypeOracle().getInstance(typeDefinition, buildTypeArguments(typeMirror));
             }
-            return typeInstance;
+            return context.getTypeOracle().getInstance(typeDefinition);
         }
     }
 
     private TypeInstanceDefinition createArray(final ArrayType type) {
-        final TypeInstanceDefinition typeInstance = new TypeInstanceDefinition(context.getTypeOracle().getOrDefineType(type));
-        typeInstance.getGenericTypeArguments().add(buildDefinition(type.getComponentType()));
-        return typeInstance;
+        final TypeDefinition arrayType = context.getTypeOracle().getOrDefineType(type);
+        return context.getTypeOracle().getInstance(arrayType, List.of(buildDefinition(type.getComponentType())));
     }
 
     private TypeInstanceDefinition createFromGenericTypeParameter(TypeMirror typeMirror) {
@@ -90,11 +90,7 @@ public class TypeInstanceBuilder {
             return parentType.getGenericTypeParams().stream()
                     .filter(f -> f.getShortName().equals(typeParamName))
                     .findAny()
-                    .map(typeDefinition -> {
-                        final TypeInstanceDefinition definition = new TypeInstanceDefinition(typeDefinition);
-                        checkTypeParameters(definition, typeMirror);
-                        return definition;
-                    })
+                    .map(typeDefinition -> context.getTypeOracle().getInstance(typeDefinition, buildTypeArguments(typeMirror)))
                     .orElse(null);
         } else if (parentElement instanceof ExecutableElement) {
             //For methods: we drop the generic type to either the bound if there's a single one or to 'any' otherwise
@@ -126,21 +122,25 @@ public class TypeInstanceBuilder {
     }
 
     public TypeInstanceDefinition buildAny() {
-        return new TypeInstanceDefinition(context.getTypeOracle().getAny());
+        return context.getTypeOracle().getInstance(context.getTypeOracle().getAny());
     }
 
-    private void checkTypeParameters(final TypeInstanceDefinition typeInstance, final TypeMirror typeMirror) {
-        if (typeMirror instanceof DeclaredType declaredType) {
-            final List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
-            for (final TypeMirror typeArgument : typeArguments) {
-                final TypeInstanceDefinition instanceDefinition = buildDefinition(typeArgument);
-                if (instanceDefinition != null) {
-                    typeInstance
-                            .getGenericTypeArguments()
-                            .add(instanceDefinition);
-                }
+    /**
+     * The arguments are built before the instance so the instance can be interned by its complete signature
+     */
+    private List<TypeInstanceDefinition> buildTypeArguments(final TypeMirror typeMirror) {
+        if (!(typeMirror instanceof DeclaredType declaredType) || declaredType.getTypeArguments().isEmpty()) {
+            return List.of();
+        }
+        final List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+        final List<TypeInstanceDefinition> arguments = new ArrayList<>(typeArguments.size());
+        for (final TypeMirror typeArgument : typeArguments) {
+            final TypeInstanceDefinition instanceDefinition = buildDefinition(typeArgument);
+            if (instanceDefinition != null) {
+                arguments.add(instanceDefinition);
             }
         }
+        return arguments;
     }
 
 }
@@ -21,7 +21,7 @@ public class JakartaPropertyClassifier implements PropertyClassifier {
     // --------------------------- Methods ------------------------
 
     public boolean isNotNull(final AnnotatedConstruct annotatedConstruct, final ProcessingContext context) {
-        final List<? extends AnnotationMirror> allAnnotations = AnnotationUtils.getAllAnnotations(annotatedConstruct);
+        final List<? extends AnnotationMirror> allAnnotations = AnnotationUtils.getAllAnnotations(annotatedConstruct, context);
         return allAnnotations.stream()
                 .anyMatch(annotationMirror ->
                         nonNullAnnotations
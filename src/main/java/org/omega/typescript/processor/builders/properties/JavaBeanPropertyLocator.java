@@ -26,7 +26,6 @@ import org.omega.typescript.api.TypeScriptIgnore;
 import org.omega.typescript.processor.model.PropertyDefinition;
 import org.omega.typescript.processor.services.ProcessingContext;
 import org.omega.typescript.processor.utils.AnnotationUtils;
-import org.omega.typescript.processor.utils.TypeUtils;
 
 import javax.lang.model.element.*;
 import java.util.Arrays;
@@ -51,13 +50,12 @@ public class JavaBeanPropertyLocator implements TypePropertyLocator {
     public List<PropertyDefinition> locateProperties(final TypeElement typeElement,
                                                      final ProcessingContext context,
                                                      final PropertyClassificationService propertyClassificationService) {
-        final List<ExecutableElement> methods = TypeUtils.getMethods(typeElement, context);
+        final List<ExecutableElement> methods = context.getMemberIndex(typeElement).getDeclaredMethods();
 
         final Set<String> ignoredFields = getIgnoredFields(typeElement, context);
 
         //Selects only "own" getters of the class
         final List<ExecutableElement> getters = methods.stream()
-                .filter(e -> e.getEnclosingElement() == typeElement)
                 .filter(e -> e.getModifiers().contains(Modifier.PUBLIC))
                 .filter(e -> !e.getModifiers().contains(Modifier.TRANSIENT))
                 .filter(e -> !AnnotationUtils.getAnnotation(e, TypeScriptIgnore.class).isPresent())
@@ -79,8 +77,7 @@ public class JavaBeanPropertyLocator implements TypePropertyLocator {
     }
 
     private Set<String> getIgnoredFields(final TypeElement typeElement, final ProcessingContext context) {
-        return TypeUtils.getMembers(typeElement, ElementKind.FIELD, context).stream()
-                .filter(e -> e.getEnclosingElement() == typeElement)
+        return context.getMemberIndex(typeElement).getDeclaredFields().stream()
                 .filter(e -> !e.getModifiers().contains(Modifier.TRANSIENT))
                 .filter(e -> AnnotationUtils.getAnnotation(e, TypeScriptIgnore.class).isPresent())
                 .filter(e -> !e.getModifiers().contains(Modifier.STATIC))
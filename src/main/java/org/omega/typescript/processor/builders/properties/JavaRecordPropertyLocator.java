@@ -45,7 +45,7 @@ public class JavaRecordPropertyLocator implements TypePropertyLocator {
     public List<PropertyDefinition> locateProperties(final TypeElement typeElement,
                                                      final ProcessingContext context,
                                                      final PropertyClassificationService propertyClassificationService) {
-        final List<? extends RecordComponentElement> recordComponents = typeElement.getRecordComponents();
+        final List<? extends RecordComponentElement> recordComponents = context.getMemberIndex(typeElement).getRecordComponents();
         
         return recordComponents.stream()
             .filter(e -> AnnotationUtils.getAnnotation(e, TypeScriptIgnore.class).isEmpty())
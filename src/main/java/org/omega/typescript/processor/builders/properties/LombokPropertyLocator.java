@@ -27,7 +27,6 @@ import org.omega.typescript.processor.services.ProcessingContext;
 import org.omega.typescript.processor.model.PropertyDefinition;
 import org.omega.typescript.processor.utils.AnnotationUtils;
 import org.omega.typescript.processor.utils.ResolvedAnnotationValues;
-import org.omega.typescript.processor.utils.TypeUtils;
 
 import javax.lang.model.element.*;
 import java.util.List;
@@ -53,8 +52,7 @@ public class LombokPropertyLocator implements TypePropertyLocator {
                 .resolveAnnotation("lombok.Data", typeElement, context);
         final boolean allInstanceFields = dataAnnotation.isPresent();
 
-        final List<Element> fields = TypeUtils.getMembers(typeElement, ElementKind.FIELD, context).stream()
-                .filter(e -> e.getEnclosingElement() == typeElement)
+        final List<Element> fields = context.getMemberIndex(typeElement).getDeclaredFields().stream()
                 .filter(e -> !e.getModifiers().contains(Modifier.TRANSIENT))
                 .filter(e -> !AnnotationUtils.getAnnotation(e, TypeScriptIgnore.class).isPresent())
                 .filter(e -> !e.getModifiers().contains(Modifier.STATIC))
@@ -22,6 +22,8 @@
 
 package org.omega.typescript.processor.builders.properties;
 
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Phase;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.PhaseTimer;
 import org.omega.typescript.processor.model.PropertyDefinition;
 import org.omega.typescript.processor.services.ProcessingContext;
 import org.omega.typescript.processor.utils.ServiceUtils;
@@ -59,13 +61,15 @@ public class PropertyDefinitionBuilder {
     }
 
     public List<PropertyDefinition> buildProperties(final TypeElement typeElement) {
-        final Map<String, PropertyDefinition> properties = new LinkedHashMap<>();
-        for (final TypePropertyLocator locator : propertyLocators) {
-            final List<PropertyDefinition> propertyDefinitions = locator
-                    .locateProperties(typeElement, context, propertyClassificationService);
-            propertyDefinitions.forEach(p -> properties.putIfAbsent(p.getName(), p));
+        try (PhaseTimer ignored = context.getMetrics().start(Phase.PROPERTIES)) {
+            final Map<String, PropertyDefinition> properties = new LinkedHashMap<>();
+            for (final TypePropertyLocator locator : propertyLocators) {
+                final List<PropertyDefinition> propertyDefinitions = locator
+                        .locateProperties(typeElement, context, propertyClassificationService);
+                propertyDefinitions.forEach(p -> properties.putIfAbsent(p.getName(), p));
+            }
+            return new ArrayList<>(properties.values());
         }
-        return new ArrayList<>(properties.values());
     }
 
 }
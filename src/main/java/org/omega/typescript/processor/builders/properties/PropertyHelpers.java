@@ -24,6 +24,7 @@ package org.omega.typescript.processor.builders.properties;
 
 import org.omega.typescript.api.TypeScriptName;
 import org.omega.typescript.processor.services.ProcessingContext;
+import org.omega.typescript.processor.services.TypeBudget;
 import org.omega.typescript.processor.model.PropertyDefinition;
 import org.omega.typescript.processor.utils.AnnotationUtils;
 import org.omega.typescript.processor.utils.StringUtils;
@@ -64,7 +65,11 @@ public final class PropertyHelpers {
                                                    final PropertyClassificationService propertyClassificationService) {
         final PropertyDefinition property = new PropertyDefinition();
         property.setName(getTypeScriptName(getter, defaultName, context));
-        property.setType(context.getTypeOracle().buildInstance(returnType));
+        final TypeBudget budget = context.getTypeBudget();
+        budget.at(property.getName());
+        property.setType(budget.allowProperty(property.getName())
+                ? context.getTypeOracle().buildInstance(returnType)
+                : context.getTypeOracle().getAnyInstance());
         property.setNotNullable(propertyClassificationService.isNotNull(getter, returnType));
         return property;
     }
@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.omega.typescript.processor.cache;
+
+import org.omega.typescript.processor.model.Endpoint;
+import org.omega.typescript.processor.model.EndpointContainer;
+import org.omega.typescript.processor.model.EndpointMethod;
+import org.omega.typescript.processor.model.MethodParameter;
+import org.omega.typescript.processor.model.PropertyDefinition;
+import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.model.TypeInstanceDefinition;
+import org.omega.typescript.processor.model.TypeKind;
+import org.omega.typescript.processor.model.TypeOracle;
+import org.omega.typescript.processor.services.ProcessingContext;
+import org.omega.typescript.processor.utils.IOUtils;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.JavaFileObject;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the resolved model between compilations.
+ * The snapshot of the previous compilation is loaded before the first endpoint is built, entries whose declaration
+ * or any of the referenced types changed are dropped, the remaining ones are restored into the {@link TypeOracle}
+ * and {@link EndpointContainer} instead of being rebuilt from the javac elements.
+ */
+public class ModelCache {
+
+    // ------------------ Constants  --------------------
+
+    public static final String CACHE_FILE_NAME = "tsg-model.cache";
+
+    private static final char GENERIC_SEPARATOR = '#';
+
+    // ------------------ Fields     --------------------
+
+    private final Map<String, TypeDefinition> types = new ConcurrentHashMap<>();
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Keys of the declarations in the current compilation, computed once per class
+     */
+    private final Map<String, CacheKey> currentKeys = new ConcurrentHashMap<>();
+
+    private final AtomicLong restoredTypes = new AtomicLong();
+
+    private final AtomicLong restoredEndpoints = new AtomicLong();
+
+    private ProcessingContext context;
+
+    private String configFingerprint;
+
+    private Path cacheFile;
+
+    private boolean loaded = false;
+
+    // ------------------ Properties --------------------
+
+    public boolean isEnabled() {
+        return cacheFile != null;
+    }
+
+    public long getRestoredTypes() {
+        return restoredTypes.get();
+    }
+
+    public long getRestoredEndpoints() {
+        return restoredEndpoints.get();
+    }
+
+    // ------------------ Logic      --------------------
+
+    /**
+     * Loads and validates the snapshot of the previous compilation, called once the configuration is known
+     */
+    public synchronized void load(final ProcessingContext context) {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!context.getGenConfig().isModelCacheEnabled()) {
+            return;
+        }
+        this.context = context;
+        this.configFingerprint = context.getGenConfig().getFingerprint();
+        this.cacheFile = resolveCacheFile();
+        if ((cacheFile == null) || (!Files.isRegularFile(cacheFile))) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            final ModelSnapshot snapshot = ModelSnapshotIO.read(in);
+            if (!configFingerprint.equals(snapshot.getConfigFingerprint())) {
+                context.debug("Type Script Generator: configuration changed, model cache " + cacheFile + " discarded");
+                return;
+            }
+            final Set<String> validEntries = validate(snapshot);
+            snapshot.getTypes().forEach((className, definition) -> {
+                if (validEntries.contains(className)) {
+                    types.put(className, definition);
+                }
+            });
+            snapshot.getEndpoints().forEach((className, endpoint) -> {
+                if (validEntries.contains(className)) {
+                    endpoints.put(className, endpoint);
+                }
+            });
+            context.debug("Type Script Generator: model cache " + cacheFile + " loaded, " + types.size() + " of " +
+                    snapshot.getTypes().size() + " types and " + endpoints.size() + " of " + snapshot.getEndpoints().size() +
+                    " endpoints are up to date");
+        } catch (IOException | RuntimeException ex) {
+            types.clear();
+            endpoints.clear();
+            context.warning("Type Script Generator: unable to read model cache " + cacheFile + ", the model is rebuilt: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Drops the entries that can't be reused: the declaration changed or one of the types it references
+     * (supertypes, property types, type arguments) can't be reused, transitively
+     *
+     * @return class names of the entries that are still valid
+     */
+    private Set<String> validate(final ModelSnapshot snapshot) {
+        final Map<String, Set<String>> dependents = new HashMap<>();
+        final Deque<String> invalid = new ArrayDeque<>();
+
+        final Map<String, Set<String>> dependencies = new HashMap<>();
+        snapshot.getTypes().forEach((className, definition) -> dependencies.put(className, collectDependencies(definition)));
+        snapshot.getEndpoints().forEach((className, endpoint) ->
+                dependencies.merge(className, collectDependencies(endpoint), (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                })
+        );
+
+        dependencies.forEach((className, classDependencies) -> {
+            final CacheKey storedKey = snapshot.getKeys().get(className);
+            boolean valid = (storedKey != null) && computeKey(className).map(storedKey::equals).orElse(false);
+            for (final String dependency : classDependencies) {
+                if (snapshot.getTypes().containsKey(dependency)) {
+                    dependents.computeIfAbsent(dependency, name -> new HashSet<>()).add(className);
+                } else if (!isPredefined(dependency)) {
+                    valid = false;
+                }
+            }
+            if (!valid) {
+                invalid.add(className);
+            }
+        });
+
+        final Set<String> invalidated = new HashSet<>(invalid);
+        while (!invalid.isEmpty()) {
+            final String className = invalid.poll();
+            for (final String dependent : dependents.getOrDefault(className, Set.of())) {
+                if (invalidated.add(dependent)) {
+                    invalid.add(dependent);
+                }
+            }
+        }
+
+        final Set<String> validEntries = new HashSet<>(dependencies.keySet());
+        validEntries.removeAll(invalidated);
+        return validEntries;
+    }
+
+    private boolean isPredefined(final String className) {
+        return context.getTypeOracle().getType(className)
+                .map(TypeDefinition::isPredefined)
+                .orElse(false);
+    }
+
+    private Set<String> collectDependencies(final TypeDefinition definition) {
+        final Set<String> dependencies = new LinkedHashSet<>();
+        collectDependencies(definition, dependencies);
+        dependencies.remove(definition.getFullName());
+        return dependencies;
+    }
+
+    private void collectDependencies(final TypeDefinition definition, final Set<String> dependencies) {
+        definition.getSuperTypes().forEach(instance -> collectDependencies(instance, dependencies));
+        definition.getProperties().forEach(property -> collectDependencies(property.getType(), dependencies));
+        definition.getGenericTypeParams().forEach(param -> collectDependencies(param, dependencies));
+    }
+
+    private Set<String> collectDependencies(final Endpoint endpoint) {
+        final Set<String> dependencies = new LinkedHashSet<>();
+        for (final EndpointMethod method : endpoint.getEndpointMethods()) {
+            collectDependencies(method.getReturnType(), dependencies);
+            method.getParams().forEach(param -> collectDependencies(param.getType(), dependencies));
+        }
+        return dependencies;
+    }
+
+    private void collectDependencies(final TypeInstanceDefinition instance, final Set<String> dependencies) {
+        if (instance == null) {
+            return;
+        }
+        final String typeName = instance.getFullName();
+        final int separator = typeName.indexOf(GENERIC_SEPARATOR);
+        dependencies.add(separator >= 0 ? typeName.substring(0, separator) : typeName);
+        instance.getGenericTypeArguments().forEach(argument -> collectDependencies(argument, dependencies));
+    }
+
+    private Optional<CacheKey> computeKey(final String className) {
+        return Optional.ofNullable(currentKeys.computeIfAbsent(className, name -> {
+            final Elements elements = context.getProcessingEnv().getElementUtils();
+            final TypeElement typeElement = elements.getTypeElement(name);
+            if (typeElement == null) {
+                return null;
+            }
+            return new CacheKey(getSourceFile(elements, typeElement), TypeSignatures.compute(typeElement));
+        }));
+    }
+
+    private String getSourceFile(final Elements elements, final TypeElement typeElement) {
+        try {
+            final JavaFileObject fileObject = elements.getFileObjectOf(typeElement);
+            return fileObject != null ? fileObject.toUri().toString() : "";
+        } catch (UnsupportedOperationException ex) {
+            return "";
+        }
+    }
+
+    private Path resolveCacheFile() {
+        try {
+            return IOUtils.resolveSourceOutputPath(CACHE_FILE_NAME, context);
+        } catch (IllegalStateException ex) {
+            context.debug("Type Script Generator: " + ex.getMessage() + ", model cache is disabled");
+            return null;
+        }
+    }
+
+    /**
+     * Restores the type from the cache, the type is registered in the oracle before the references are resolved
+     * to support recursive types
+     */
+    public Optional<TypeDefinition> restoreType(final String className, final ProcessingContext context) {
+        final TypeDefinition definition = types.remove(className);
+        if (definition == null) {
+            return Optional.empty();
+        }
+        context.getTypeOracle().addType(definition);
+
+        for (final TypeDefinition genericTypeParam : definition.getGenericTypeParams()) {
+            genericTypeParam.getSuperTypes().replaceAll(bound -> resolveInstance(bound, definition, context));
+        }
+        definition.getSuperTypes().replaceAll(superType -> resolveInstance(superType, definition, context));
+        for (final PropertyDefinition property : definition.getProperties()) {
+            property.setType(resolveInstance(property.getType(), definition, context));
+        }
+        restoredTypes.incrementAndGet();
+        return Optional.of(definition);
+    }
+
+    public Optional<Endpoint> restoreEndpoint(final String controllerClassName, final ProcessingContext context) {
+        final Endpoint endpoint = endpoints.remove(controllerClassName);
+        if (endpoint == null) {
+            return Optional.empty();
+        }
+        for (final EndpointMethod method : endpoint.getEndpointMethods()) {
+            method.setReturnType(resolveInstance(method.getReturnType(), null, context));
+            for (final MethodParameter param : method.getParams()) {
+                param.setType(resolveInstance(param.getType(), null, context));
+            }
+        }
+        restoredEndpoints.incrementAndGet();
+        return Optional.of(endpoint);
+    }
+
+    /**
+     * @return the interned instance matching the cached placeholder reference
+     */
+    private TypeInstanceDefinition resolveInstance(final TypeInstanceDefinition instance, final TypeDefinition owner, final ProcessingContext context) {
+        if (instance == null) {
+            return null;
+        }
+        final TypeDefinition typeDefinition = resolveType(instance.getFullName(), owner, context);
+        final List<TypeInstanceDefinition> arguments = new ArrayList<>(instance.getGenericTypeArguments().size());
+        for (final TypeInstanceDefinition argument : instance.getGenericTypeArguments()) {
+            arguments.add(resolveInstance(argument, owner, context));
+        }
+        return context.getTypeOracle().getInstance(typeDefinition, arguments);
+    }
+
+    private TypeDefinition resolveType(final String typeName, final TypeDefinition owner, final ProcessingContext context) {
+        final int separator = typeName.indexOf(GENERIC_SEPARATOR);
+        if (separator >= 0) {
+            final String ownerName = typeName.substring(0, separator);
+            final String paramName = typeName.substring(separator + 1);
+            final TypeDefinition genericOwner = ((owner != null) && ownerName.equals(owner.getFullName()))
+                    ? owner
+                    : resolveType(ownerName, owner, context);
+            return genericOwner.getGenericTypeParams().stream()
+                    .filter(param -> param.getShortName().equals(paramName))
+                    .findAny()
+                    .orElseThrow(() -> new IllegalStateException("Cached generic type " + typeName + " not found"));
+        }
+
+        final TypeOracle oracle = context.getTypeOracle();
+        final Optional<TypeDefinition> knownType = oracle.getType(typeName);
+        if (knownType.isPresent()) {
+            return knownType.get();
+        }
+        final TypeElement typeElement = context.getProcessingEnv().getElementUtils().getTypeElement(typeName);
+        if (typeElement == null) {
+            throw new IllegalStateException("Cached type reference " + typeName + " can't be resolved");
+        }
+        return oracle.getOrDefineType(typeElement);
+    }
+
+    /**
+     * Writes the current model for the next compilation
+     */
+    public synchronized void save(final TypeOracle oracle, final EndpointContainer endpointContainer) {
+        if (cacheFile == null) {
+            return;
+        }
+        final ModelSnapshot snapshot = new ModelSnapshot()
+                .setConfigFingerprint(configFingerprint);
+
+        final List<TypeDefinition> knownTypes = oracle.getKnownTypes().stream()
+                .filter(definition -> !definition.isPredefined())
+                .filter(definition -> definition.getTypeKind() != TypeKind.GENERIC_PLACEHOLDER)
+                .sorted(Comparator.comparing(TypeDefinition::getFullName))
+                .toList();
+        for (final TypeDefinition definition : knownTypes) {
+            computeKey(definition.getFullName()).ifPresent(key -> {
+                snapshot.getKeys().put(definition.getFullName(), key);
+                snapshot.getTypes().put(definition.getFullName(), definition);
+            });
+        }
+
+        final List<Endpoint> knownEndpoints = endpointContainer.getEndpointMap().values().stream()
+                .sorted(Comparator.comparing(Endpoint::getControllerClassName))
+                .toList();
+        for (final Endpoint endpoint : knownEndpoints) {
+            computeKey(endpoint.getControllerClassName()).ifPresent(key -> {
+                snapshot.getKeys().put(endpoint.getControllerClassName(), key);
+                snapshot.getEndpoints().put(endpoint.getControllerClassName(), endpoint);
+            });
+        }
+
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(cacheFile)))) {
+                ModelSnapshotIO.write(snapshot, out);
+            }
+            context.debug("Type Script Generator: model cache " + cacheFile + " saved with " + snapshot.getTypes().size() +
+                    " types and " + snapshot.getEndpoints().size() + " endpoints, restored " + restoredTypes.get() +
+                    " types and " + restoredEndpoints.get() + " endpoints");
+        } catch (IOException ex) {
+            context.warning("Type Script Generator: unable to write model cache " + cacheFile + ": " + ex.getMessage());
+        }
+    }
+
+    public synchronized void clear() {
+        types.clear();
+        endpoints.clear();
+        currentKeys.clear();
+        restoredTypes.set(0);
+        restoredEndpoints.set(0);
+        context = null;
+        configFingerprint = null;
+        cacheFile = null;
+        loaded = false;
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.omega.typescript.processor.cache;
+
+import lombok.Data;
+import org.omega.typescript.processor.model.Endpoint;
+import org.omega.typescript.processor.model.TypeDefinition;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resolved model of a compilation as stored on disk.
+ * References to other types are kept by name and resolved against the {@link org.omega.typescript.processor.model.TypeOracle}
+ * when an entry is restored
+ */
+@Data
+public class ModelSnapshot {
+
+    // ------------------ Fields     --------------------
+
+    private String configFingerprint = "";
+
+    private final Map<String, TypeDefinition> types = new LinkedHashMap<>();
+
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    /**
+     * Keys of every type and endpoint controller in the snapshot, by qualified class name
+     */
+    private final Map<String, CacheKey> keys = new LinkedHashMap<>();
+
+}
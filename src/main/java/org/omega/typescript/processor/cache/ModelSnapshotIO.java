@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.omega.typescript.processor.cache;
+
+import org.omega.typescript.processor.model.Endpoint;
+import org.omega.typescript.processor.model.EndpointMethod;
+import org.omega.typescript.processor.model.EnumConstant;
+import org.omega.typescript.processor.model.MappingDefinition;
+import org.omega.typescript.processor.model.MethodParameter;
+import org.omega.typescript.processor.model.PathVariableDefinition;
+import org.omega.typescript.processor.model.PropertyDefinition;
+import org.omega.typescript.processor.model.RequestMethod;
+import org.omega.typescript.processor.model.TypeContainer;
+import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.model.TypeInstanceDefinition;
+import org.omega.typescript.processor.model.TypeKind;
+import org.omega.typescript.processor.utils.ClassUtils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Binary format of the {@link ModelSnapshot}.
+ * Type instances are written as the name of the referenced type, on read they point to placeholder
+ * definitions that carry only the name and have to be resolved before use
+ */
+public final class ModelSnapshotIO {
+
+    // ------------------ Constants  --------------------
+
+    private static final int MAGIC = 0x54534743;
+
+    public static final int FORMAT_VERSION = 1;
+
+    // ------------------ Logic      --------------------
+
+    private ModelSnapshotIO() {
+    }
+
+    public static void write(final ModelSnapshot snapshot, final DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(snapshot.getConfigFingerprint());
+
+        out.writeInt(snapshot.getKeys().size());
+        for (final Map.Entry<String, CacheKey> entry : snapshot.getKeys().entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeUTF(entry.getValue().getSourceFile());
+            out.writeUTF(entry.getValue().getSignature());
+        }
+
+        out.writeInt(snapshot.getTypes().size());
+        for (final TypeDefinition definition : snapshot.getTypes().values()) {
+            writeDefinition(definition, out);
+        }
+
+        out.writeInt(snapshot.getEndpoints().size());
+        for (final Endpoint endpoint : snapshot.getEndpoints().values()) {
+            writeEndpoint(endpoint, out);
+        }
+    }
+
+    public static ModelSnapshot read(final DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a Type Script Generator model cache");
+        }
+        final int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported model cache version " + version);
+        }
+        final ModelSnapshot snapshot = new ModelSnapshot();
+        snapshot.setConfigFingerprint(in.readUTF());
+
+        final int keyCount = in.readInt();
+        for (int index = 0; index < keyCount; ++index) {
+            final String className = in.readUTF();
+            snapshot.getKeys().put(className, new CacheKey(in.readUTF(), in.readUTF()));
+        }
+
+        final int typeCount = in.readInt();
+        for (int index = 0; index < typeCount; ++index) {
+            final TypeDefinition definition = readDefinition(in);
+            snapshot.getTypes().put(definition.getFullName(), definition);
+        }
+
+        final int endpointCount = in.readInt();
+        for (int index = 0; index < endpointCount; ++index) {
+            final Endpoint endpoint = readEndpoint(in);
+            snapshot.getEndpoints().put(endpoint.getControllerClassName(), endpoint);
+        }
+        return snapshot;
+    }
+
+    // ------------------ Types      --------------------
+
+    private static void writeDefinition(final TypeDefinition definition, final DataOutputStream out) throws IOException {
+        out.writeUTF(definition.getFullName());
+        out.writeUTF(definition.getShortName());
+        writeString(definition.getTypeScriptName(), out);
+        writeString(definition.getTypeKind() != null ? definition.getTypeKind().name() : null, out);
+        out.writeBoolean(definition.isInitialized());
+
+        writeInstances(definition.getSuperTypes(), out);
+
+        out.writeInt(definition.getProperties().size());
+        for (final PropertyDefinition property : definition.getProperties()) {
+            writeString(property.getName(), out);
+            writeInstance(property.getType(), out);
+            out.writeBoolean(property.isNotNullable());
+        }
+
+        out.writeInt(definition.getEnumConstants().size());
+        for (final EnumConstant enumConstant : definition.getEnumConstants()) {
+            out.writeUTF(enumConstant.getName());
+        }
+
+        out.writeInt(definition.getGenericTypeParams().size());
+        for (final TypeDefinition genericTypeParam : definition.getGenericTypeParams()) {
+            writeDefinition(genericTypeParam, out);
+        }
+
+        writeContainer(definition.getContainer(), out);
+    }
+
+    private static TypeDefinition readDefinition(final DataInputStream in) throws IOException {
+        final TypeDefinition definition = new TypeDefinition(in.readUTF(), in.readUTF());
+        definition.setTypeScriptName(readString(in));
+        final String typeKind = readString(in);
+        definition.setTypeKind(typeKind != null ? TypeKind.valueOf(typeKind) : null);
+        definition.setInitialized(in.readBoolean());
+
+        definition.getSuperTypes().addAll(readInstances(in));
+
+        final int propertyCount = in.readInt();
+        for (int index = 0; index < propertyCount; ++index) {
+            definition.getProperties().add(
+                    new PropertyDefinition()
+                            .setName(readString(in))
+                            .setType(readInstance(in))
+                            .setNotNullable(in.readBoolean())
+            );
+        }
+
+        final int enumConstantCount = in.readInt();
+        for (int index = 0; index < enumConstantCount; ++index) {
+            definition.getEnumConstants().add(new EnumConstant(in.readUTF()));
+        }
+
+        final int genericParamCount = in.readInt();
+        for (int index = 0; index < genericParamCount; ++index) {
+            definition.getGenericTypeParams().add(readDefinition(in));
+        }
+
+        definition.setContainer(readContainer(in));
+        return definition;
+    }
+
+    private static void writeInstances(final List<TypeInstanceDefinition> instances, final DataOutputStream out) throws IOException {
+        out.writeInt(instances.size());
+        for (final TypeInstanceDefinition instance : instances) {
+            writeInstance(instance, out);
+        }
+    }
+
+    private static List<TypeInstanceDefinition> readInstances(final DataInputStream in) throws IOException {
+        final int count = in.readInt();
+        final List<TypeInstanceDefinition> instances = new ArrayList<>(count);
+        for (int index = 0; index < count; ++index) {
+            instances.add(readInstance(in));
+        }
+        return instances;
+    }
+
+    private static void writeInstance(final TypeInstanceDefinition instance, final DataOutputStream out) throws IOException {
+        out.writeBoolean(instance != null);
+        if (instance != null) {
+            out.writeUTF(instance.getFullName());
+            writeInstances(instance.getGenericTypeArguments(), out);
+        }
+    }
+
+    private static TypeInstanceDefinition readInstance(final DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        final String typeName = in.readUTF();
+        //Placeholder reference, replaced with the interned instance when the type is restored
+        return new TypeInstanceDefinition(new TypeDefinition(typeName, ClassUtils.getSimpleClassName(typeName)), readInstances(in));
+    }
+
+    private static void writeContainer(final TypeContainer container, final DataOutputStream out) throws IOException {
+        out.writeBoolean(container != null);
+        if (container != null) {
+            out.writeBoolean(container.isPackageElement());
+            writeString(container.getFullName(), out);
+            writeString(container.getShortName(), out);
+            writeContainer(container.getContainer(), out);
+        }
+    }
+
+    private static TypeContainer readContainer(final DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new TypeContainer()
+                .setPackageElement(in.readBoolean())
+                .setFullName(readString(in))
+                .setShortName(readString(in))
+                .setContainer(readContainer(in));
+    }
+
+    // ------------------ Endpoints  --------------------
+
+    private static void writeEndpoint(final Endpoint endpoint, final DataOutputStream out) throws IOException {
+        out.writeUTF(endpoint.getControllerClassName());
+        writeString(endpoint.getControllerName(), out);
+        writeString(endpoint.getModuleName(), out);
+        writeMapping(endpoint.getMappingDefinition().orElse(null), out);
+        writeContainer(endpoint.getContainer(), out);
+
+        out.writeInt(endpoint.getEndpointMethods().size());
+        for (final EndpointMethod method : endpoint.getEndpointMethods()) {
+            out.writeUTF(method.getMethodName());
+            writeMapping(method.getMappingDefinition(), out);
+            writeInstance(method.getReturnType(), out);
+
+            out.writeInt(method.getParams().size());
+            for (final MethodParameter param : method.getParams()) {
+                out.writeUTF(param.getName());
+                writeInstance(param.getType(), out);
+                writeVariable(param.getPathVariableName(), out);
+                writeVariable(param.getRequestParameterName(), out);
+                writeVariable(param.getRequestBody(), out);
+            }
+        }
+    }
+
+    private static Endpoint readEndpoint(final DataInputStream in) throws IOException {
+        final Endpoint endpoint = new Endpoint(in.readUTF());
+        endpoint.setControllerName(readString(in));
+        endpoint.setModuleName(readString(in));
+        endpoint.setMappingDefinition(Optional.ofNullable(readMapping(in)));
+        endpoint.setContainer(readContainer(in));
+
+        final int methodCount = in.readInt();
+        final List<EndpointMethod> methods = new ArrayList<>(methodCount);
+        for (int index = 0; index < methodCount; ++index) {
+            final EndpointMethod method = new EndpointMethod(endpoint, in.readUTF(), readMapping(in));
+            method.setReturnType(readInstance(in));
+
+            final int paramCount = in.readInt();
+            final List<MethodParameter> params = new ArrayList<>(paramCount);
+            for (int paramIndex = 0; paramIndex < paramCount; ++paramIndex) {
+                final MethodParameter param = new MethodParameter(in.readUTF(), method);
+                param.setType(readInstance(in));
+                param.setPathVariableName(readVariable(in));
+                param.setRequestParameterName(readVariable(in));
+                param.setRequestBody(readVariable(in));
+                params.add(param);
+            }
+            method.setParams(params);
+            methods.add(method);
+        }
+        endpoint.setEndpointMethods(methods);
+        return endpoint;
+    }
+
+    private static void writeMapping(final MappingDefinition mapping, final DataOutputStream out) throws IOException {
+        out.writeBoolean(mapping != null);
+        if (mapping != null) {
+            writeString(mapping.getUrlTemplate(), out);
+            writeString(mapping.getRequestMethod() != null ? mapping.getRequestMethod().name() : null, out);
+        }
+    }
+
+    private static MappingDefinition readMapping(final DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        final MappingDefinition mapping = new MappingDefinition();
+        mapping.setUrlTemplate(readString(in));
+        final String requestMethod = readString(in);
+        mapping.setRequestMethod(requestMethod != null ? RequestMethod.valueOf(requestMethod) : null);
+        return mapping;
+    }
+
+    private static void writeVariable(final Optional<PathVariableDefinition> variable, final DataOutputStream out) throws IOException {
+        final PathVariableDefinition definition = variable != null ? variable.orElse(null) : null;
+        out.writeBoolean(definition != null);
+        if (definition != null) {
+            out.writeUTF(definition.getName());
+            out.writeBoolean(definition.isRequired());
+        }
+    }
+
+    private static Optional<PathVariableDefinition> readVariable(final DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return Optional.empty();
+        }
+        return Optional.of(new PathVariableDefinition(in.readUTF()).setRequired(in.readBoolean()));
+    }
+
+    // ------------------ Primitives --------------------
+
+    private static void writeString(final String value, final DataOutputStream out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.omega.typescript.processor.cache;
+
+import org.omega.typescript.processor.utils.IOUtils;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Computes a hash over the declarations of a type and all of its supertypes.
+ * Only declared members are visited, inherited members are covered by hashing the supertypes,
+ * so the signature changes whenever anything that can affect the resolved model of the type changes.
+ */
+public final class TypeSignatures {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Logic      --------------------
+
+    private TypeSignatures() {
+    }
+
+    public static String compute(final TypeElement typeElement) {
+        final StringBuilder content = new StringBuilder();
+        appendType(typeElement, content, new HashSet<>());
+        return HexFormat.of().formatHex(IOUtils.sha256(content.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void appendType(final TypeElement typeElement, final StringBuilder content, final Set<String> visited) {
+        final String className = typeElement.getQualifiedName().toString();
+        if (Object.class.getName().equals(className) || (!visited.add(className))) {
+            return;
+        }
+        content.append("type ").append(typeElement.getKind()).append(' ').append(typeElement.getModifiers())
+                .append(' ').append(className).append('\n');
+        appendAnnotations(typeElement, content);
+        for (final TypeParameterElement typeParameter : typeElement.getTypeParameters()) {
+            content.append("param ").append(typeParameter.getSimpleName()).append(' ').append(typeParameter.getBounds()).append('\n');
+        }
+        content.append("extends ").append(typeElement.getSuperclass()).append('\n');
+        content.append("implements ").append(typeElement.getInterfaces()).append('\n');
+
+        for (final Element member : typeElement.getEnclosedElements()) {
+            content.append("member ").append(member.getKind()).append(' ').append(member.getModifiers())
+                    .append(' ').append(member.getSimpleName()).append(' ').append(member.asType()).append('\n');
+            appendAnnotations(member, content);
+            if (member instanceof ExecutableElement executableElement) {
+                executableElement.getParameters().forEach(parameter -> {
+                    content.append("arg ").append(parameter.getSimpleName()).append('\n');
+                    appendAnnotations(parameter, content);
+                });
+            }
+        }
+
+        appendSupertype(typeElement.getSuperclass(), content, visited);
+        typeElement.getInterfaces().forEach(interfaceType -> appendSupertype(interfaceType, content, visited));
+    }
+
+    private static void appendSupertype(final TypeMirror supertype, final StringBuilder content, final Set<String> visited) {
+        if ((supertype != null) && (supertype.getKind() == TypeKind.DECLARED)) {
+            appendType((TypeElement) ((DeclaredType) supertype).asElement(), content, visited);
+        }
+    }
+
+    private static void appendAnnotations(final Element element, final StringBuilder content) {
+        final List<? extends AnnotationMirror> annotations = element.getAnnotationMirrors();
+        for (final AnnotationMirror annotation : annotations) {
+            content.append('@').append(annotation).append('\n');
+        }
+    }
+
+}
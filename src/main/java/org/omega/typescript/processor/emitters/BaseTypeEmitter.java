@@ -23,8 +23,10 @@
 package org.omega.typescript.processor.emitters;
 
 import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.utils.CodeWriter;
 
 import java.io.PrintWriter;
+import java.util.Set;
 
 /**
  * Created by kibork on 5/2/2018.
@@ -50,15 +52,30 @@ public abstract class BaseTypeEmitter implements TypeDefinitionEmitter {
             throw new IllegalArgumentException("Invalid renderer for type " + definition);
         }
 
-        try (PrintWriter writer = context.getStorageStrategy().createWriter(definition)) {
+        try (CodeWriter writer = context.openCodeWriter()) {
+            if (context.getBundleEmitter() != null) {
+                renderBody(definition, writer);
+                context.getBundleEmitter().add(definition, writer.toString(), getUsedTypes(definition));
+                return;
+            }
             renderImports(definition, writer);
             renderBody(definition, writer);
+            try (PrintWriter out = context.getStorageStrategy().createWriter(definition)) {
+                writer.writeTo(out);
+            }
         } catch (Exception ex) {
             throw new RuntimeException("Failed to render interface for type " + definition.getFullName(), ex);
         }
     }
 
-    protected abstract void renderBody(TypeDefinition definition, PrintWriter writer) throws Exception;
+    protected abstract void renderBody(TypeDefinition definition, CodeWriter writer) throws Exception;
 
-    protected abstract void renderImports(TypeDefinition definition, PrintWriter writer) throws Exception;
+    protected abstract void renderImports(TypeDefinition definition, CodeWriter writer) throws Exception;
+
+    /**
+     * @return types the rendered body refers to, the shared type files import them
+     */
+    protected Set<TypeDefinition> getUsedTypes(final TypeDefinition definition) {
+        return Set.of();
+    }
 }
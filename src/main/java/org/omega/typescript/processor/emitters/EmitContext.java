@@ -22,14 +22,20 @@
 
 package org.omega.typescript.processor.emitters;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.omega.typescript.processor.GenConfig;
+import org.omega.typescript.processor.model.TypeInstanceDefinition;
 import org.omega.typescript.processor.services.FileNamingStrategy;
 import org.omega.typescript.processor.services.ProcessingContext;
 import org.omega.typescript.processor.services.StorageStrategy;
+import org.omega.typescript.processor.utils.CodeWriter;
 import org.omega.typescript.processor.utils.LogUtil;
 import org.omega.typescript.processor.utils.RenderUtils;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Created by kibork on 5/2/2018.
  */
@@ -52,6 +58,17 @@ public class EmitContext {
 
     private final String indent;
 
+    /**
+     * Collects the rendered types unless every type is written to its own file, null otherwise
+     */
+    private final TypeBundleEmitter bundleEmitter;
+
+    /**
+     * Render buffer reused by every file rendered on the thread
+     */
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<CodeWriter> codeWriters;
+
     // ------------------ Properties --------------------
 
 
@@ -59,12 +76,27 @@ public class EmitContext {
 
 
     public EmitContext(final ProcessingContext processingContext, final FileNamingStrategy namingStrategy, final StorageStrategy storageStrategy) {
+        this(processingContext, namingStrategy, storageStrategy, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * @param renderedInstances render cache of type expressions, kept by the caller to share it across rounds
+     */
+    public EmitContext(final ProcessingContext processingContext, final FileNamingStrategy namingStrategy, final StorageStrategy storageStrategy,
+                       final Map<TypeInstanceDefinition, String> renderedInstances) {
+        this(processingContext, namingStrategy, storageStrategy, renderedInstances, null);
+    }
+
+    public EmitContext(final ProcessingContext processingContext, final FileNamingStrategy namingStrategy, final StorageStrategy storageStrategy,
+                       final Map<TypeInstanceDefinition, String> renderedInstances, final TypeBundleEmitter bundleEmitter) {
         this.processingContext = processingContext;
         this.namingStrategy = namingStrategy;
         this.storageStrategy = storageStrategy;
-        this.instanceRenderer = new TypeInstanceEmitter(this);
+        this.instanceRenderer = new TypeInstanceEmitter(this, renderedInstances);
         this.genConfig = processingContext.getGenConfig();
         this.indent = RenderUtils.indent(genConfig.getIndentWidth());
+        this.codeWriters = ThreadLocal.withInitial(() -> new CodeWriter(genConfig.getIndentWidth()));
+        this.bundleEmitter = bundleEmitter;
     }
 
     public void debug(final String msg) {
@@ -84,7 +116,15 @@ public class EmitContext {
     }
 
     public String indent(final long count) {
-        return RenderUtils.indent(genConfig.getIndentWidth(), count);
+        return codeWriters.get().getIndent((int) count);
+    }
+
+    /**
+     * @return the cleared buffer of the current thread, or a new one if the thread is already rendering a file
+     */
+    public CodeWriter openCodeWriter() {
+        final CodeWriter writer = codeWriters.get();
+        return writer.isOpen() ? new CodeWriter(genConfig.getIndentWidth()).open() : writer.open();
     }
 
 }
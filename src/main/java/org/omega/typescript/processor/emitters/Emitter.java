@@ -32,7 +32,22 @@ import org.omega.typescript.processor.model.TypeOracle;
 public interface Emitter {
     void initContext(ProcessingContext context);
 
-    void renderTypes(TypeOracle type);
+    /**
+     * Renders the dirty types, the endpoints define which of them are reachable
+     */
+    void renderTypes(TypeOracle oracle, EndpointContainer endpointContainer);
 
     void renderEndpoints(EndpointContainer endpointContainer);
+
+    /**
+     * Writes the files collected during the session and completes the pending writes, called once when processing is over
+     */
+    void flush();
+
+    /**
+     * Reports the files written during the session, called after {@link #flush()}
+     */
+    void reportStatistics();
+
+    void clear();
 }
@@ -24,14 +24,13 @@ package org.omega.typescript.processor.emitters;
 
 import org.omega.typescript.processor.model.Endpoint;
 import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.utils.CodeWriter;
 import org.omega.typescript.processor.utils.RenderUtils;
 import org.omega.typescript.processor.utils.StringUtils;
 
 import java.io.PrintWriter;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Created by kibork on 5/2/2018.
@@ -56,15 +55,18 @@ public class EndpointEmitter {
     }
 
     public void renderEndpoint(final Endpoint endpoint) {
-        try (PrintWriter writer = context.getStorageStrategy().createWriter(endpoint)) {
+        try (CodeWriter writer = context.openCodeWriter()) {
             renderImports(endpoint, writer);
             renderBody(endpoint, writer);
+            try (PrintWriter out = context.getStorageStrategy().createWriter(endpoint)) {
+                writer.writeTo(out);
+            }
         } catch (Exception ex) {
             throw new RuntimeException("Failed to render endpoint for type " + endpoint.getControllerClassName() + ":" + ex.getClass() + ">" + ex.getMessage(), ex);
         }
     }
 
-    private void renderImports(final Endpoint endpoint, final PrintWriter writer) {
+    private void renderImports(final Endpoint endpoint, final CodeWriter writer) {
         final Set<TypeDefinition> usedTypes = new HashSet<>();
         endpoint.getEndpointMethods().forEach(method -> {
             RenderUtils.visitTypeInstance(usedTypes, method.getReturnType());
@@ -74,21 +76,16 @@ public class EndpointEmitter {
         RenderUtils.renderImports(usedTypes, writer, (d) -> context.getNamingStrategy().getRelativeFileName(endpoint, d));
 
         //Render implicit imports
-        writer.println(
-                Stream.of(
-                        context.getGenConfig().getAdditionalServiceIncludes(),
-                        String.format("import {%s} from '%s';",
-                                context.getGenConfig().getDefaultHttpClassName(),
-                                getHttpServiceInclude(endpoint)),
-                        String.format("import {HttpRequestMapping, MethodParamMapping, RequestMethod} from '%s';",
-                                context.getNamingStrategy().getRelativeFileName(endpoint, getIncludeFileName())
-                        )
-
-                ).map(String::trim)
-                .filter(StringUtils::hasText)
-                .collect(Collectors.joining("\n"))
-        );
-        writer.println();
+        final String additionalIncludes = context.getGenConfig().getAdditionalServiceIncludes().trim();
+        if (StringUtils.hasText(additionalIncludes)) {
+            writer.append(additionalIncludes).append('\n');
+        }
+        writer.append("import {").append(context.getGenConfig().getDefaultHttpClassName())
+                .append("} from '").append(getHttpServiceInclude(endpoint)).append("';\n");
+        writer.append("import {HttpRequestMapping, MethodParamMapping, RequestMethod} from '")
+                .append(context.getNamingStrategy().getRelativeFileName(endpoint, getIncludeFileName()))
+                .append("';");
+        writer.newLine().newLine();
     }
 
     private String getHttpServiceInclude(final Endpoint endpoint) {
@@ -107,26 +104,26 @@ public class EndpointEmitter {
         return fileName;
     }
 
-    private void renderBody(final Endpoint endpoint, final PrintWriter writer) {
-        writer.println("@Injectable()");
-        writer.printf("export class %s {\n\n", endpoint.getControllerName());
+    private void renderBody(final Endpoint endpoint, final CodeWriter writer) {
+        writer.line("@Injectable()");
+        writer.append("export class ").append(endpoint.getControllerName()).append(" {\n\n");
 
-        writer.printf(context.indent() + "constructor(private httpService:%s) { }\n\n", context.getGenConfig().getDefaultHttpClassName());
+        writer.indent().append("constructor(private httpService:").append(context.getGenConfig().getDefaultHttpClassName()).append(") { }\n\n");
         renderDefaultMapping(endpoint, writer);
 
         endpoint.getEndpointMethods().forEach(method -> methodEmitter.renderMethod(method, writer));
 
-        writer.println("}\n");
+        writer.append("}\n").newLine();
     }
 
-    private void renderDefaultMapping(final Endpoint endpoint, final PrintWriter writer) {
-        writer.print(context.indent() + "defaultRequestMapping:HttpRequestMapping = ");
+    private void renderDefaultMapping(final Endpoint endpoint, final CodeWriter writer) {
+        writer.indent().append("defaultRequestMapping:HttpRequestMapping = ");
         if (endpoint.getMappingDefinition().isPresent()) {
-            methodEmitter.renderMapping(writer, endpoint.getMappingDefinition().get()).println(";");
+            methodEmitter.renderMapping(writer, endpoint.getMappingDefinition().get()).line(";");
         } else {
-            writer.println("null;");
+            writer.line("null;");
         }
-        writer.println();
+        writer.newLine();
     }
 
 }
@@ -23,10 +23,11 @@
 package org.omega.typescript.processor.emitters;
 
 import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.model.EnumConstant;
 import org.omega.typescript.processor.model.TypeKind;
+import org.omega.typescript.processor.utils.CodeWriter;
 
-import java.io.PrintWriter;
-import java.util.stream.Collectors;
+import java.util.List;
 
 /**
  * Created by kibork on 5/2/2018.
@@ -51,20 +52,24 @@ public class EnumTypeEmitter extends BaseTypeEmitter {
     }
 
     @Override
-    protected void renderBody(final TypeDefinition enumDefinition, final PrintWriter writer) {
-        writer.printf("export enum %s {\n", enumDefinition.getTypeScriptName());
-        final String body = enumDefinition.getEnumConstants()
-                .stream()
-                .map(c -> context.indent() + c.getName() + " = '" + c.getName() + "'")
-                .collect(Collectors.joining(",\n"));
-        if (!body.isEmpty()) {
-            writer.println(body);
+    protected void renderBody(final TypeDefinition enumDefinition, final CodeWriter writer) {
+        writer.append("export enum ").append(enumDefinition.getTypeScriptName()).append(" {\n");
+        final List<EnumConstant> constants = enumDefinition.getEnumConstants();
+        for (int index = 0; index < constants.size(); ++index) {
+            final EnumConstant constant = constants.get(index);
+            if (index > 0) {
+                writer.append(",\n");
+            }
+            writer.indent().append(constant.getName()).append(" = '").append(constant.getName()).append('\'');
         }
-        writer.println("}");
+        if (!constants.isEmpty()) {
+            writer.newLine();
+        }
+        writer.line("}");
     }
 
     @Override
-    protected void renderImports(final TypeDefinition definition, final PrintWriter writer)  {
+    protected void renderImports(final TypeDefinition definition, final CodeWriter writer)  {
 
     }
 }
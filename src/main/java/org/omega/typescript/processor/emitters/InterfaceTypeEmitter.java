@@ -22,17 +22,17 @@
 
 package org.omega.typescript.processor.emitters;
 
+import org.omega.typescript.processor.model.PropertyDefinition;
 import org.omega.typescript.processor.model.TypeDefinition;
 import org.omega.typescript.processor.model.TypeInstanceDefinition;
 import org.omega.typescript.processor.model.TypeKind;
+import org.omega.typescript.processor.utils.CodeWriter;
 import org.omega.typescript.processor.utils.RenderUtils;
 import org.omega.typescript.processor.utils.StringUtils;
 
-import java.io.PrintWriter;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Created by kibork on 4/24/2018.
@@ -57,52 +57,59 @@ public class InterfaceTypeEmitter extends BaseTypeEmitter {
     }
 
     @Override
-    protected void renderBody(final TypeDefinition definition, final PrintWriter writer) {
-        writer.append("export interface ")
-                .append(definition.getTypeScriptName())
-                .append(getGenericDecl(definition))
-                .append(getExtendsDecl(definition.getSuperTypes(), ", "))
-                .append(" {");
-        writer.println();
+    protected void renderBody(final TypeDefinition definition, final CodeWriter writer) {
+        writer.append("export interface ").append(definition.getTypeScriptName());
+        renderGenericDecl(definition, writer);
+        renderExtendsDecl(definition.getSuperTypes(), ", ", writer);
+        writer.append(" {").newLine();
         final TypeInstanceEmitter instanceRenderer = context.getInstanceRenderer();
 
-        final String properties = definition.getProperties().stream()
-                .map(p -> context.indent() + p.getName() + ": " + instanceRenderer.renderTypeInstance(p.getType()) + ";")
-                .collect(Collectors.joining("\n"));
+        final List<PropertyDefinition> properties = definition.getProperties();
+        for (int index = 0; index < properties.size(); ++index) {
+            final PropertyDefinition property = properties.get(index);
+            if (index > 0) {
+                writer.append('\n');
+            }
+            writer.indent().append(property.getName()).append(": ").append(instanceRenderer.renderTypeInstance(property.getType())).append(';');
+        }
         if (!properties.isEmpty()) {
-            writer.append(properties);
-            writer.println();
+            writer.newLine();
         }
-        writer.append("}");
-        writer.println();
+        writer.append('}').newLine();
     }
 
-    private String getGenericDecl(final TypeDefinition definition) {
-        if (definition.getGenericTypeParams().isEmpty()) {
-            return "";
+    private void renderGenericDecl(final TypeDefinition definition, final CodeWriter writer) {
+        final List<TypeDefinition> genericTypeParams = definition.getGenericTypeParams();
+        if (genericTypeParams.isEmpty()) {
+            return;
+        }
+        writer.append('<');
+        for (int index = 0; index < genericTypeParams.size(); ++index) {
+            final TypeDefinition typeParam = genericTypeParams.get(index);
+            if (index > 0) {
+                writer.append(", ");
+            }
+            writer.append(typeParam.getTypeScriptName());
+            renderExtendsDecl(typeParam.getSuperTypes(), " & ", writer);
         }
-        final String generics = definition.getGenericTypeParams().stream()
-                .map(t -> t.getTypeScriptName() + getExtendsDecl(t.getSuperTypes(), " & "))
-                .collect(Collectors.joining(", "));
-        return "<" + generics + ">";
+        writer.append('>');
     }
 
-    private String getExtendsDecl(final List<TypeInstanceDefinition> superTypes_, String delimiter) {
+    private void renderExtendsDecl(final List<TypeInstanceDefinition> superTypes, final String delimiter, final CodeWriter writer) {
         final TypeDefinition anyTypeDef = context.getProcessingContext().getTypeOracle().getAny();
-        final List<TypeInstanceDefinition> superTypes = superTypes_.stream()
-                .filter(t -> t.getTypeDefinition() != anyTypeDef)
-                .toList();
-        if (superTypes.isEmpty()) {
-            return "";
-        }
         final TypeInstanceEmitter instanceRenderer = context.getInstanceRenderer();
-        return " extends " + superTypes.stream()
-                .map(instanceRenderer::renderTypeInstance)
-                .collect(Collectors.joining(delimiter));
+        boolean first = true;
+        for (final TypeInstanceDefinition superType : superTypes) {
+            if (superType.getTypeDefinition() == anyTypeDef) {
+                continue;
+            }
+            writer.append(first ? " extends " : delimiter).append(instanceRenderer.renderTypeInstance(superType));
+            first = false;
+        }
     }
 
     @Override
-    protected void renderImports(final TypeDefinition definition, final PrintWriter writer) {
+    protected Set<TypeDefinition> getUsedTypes(final TypeDefinition definition) {
         final Set<TypeDefinition> usedTypes = new HashSet<>();
         definition.getProperties().forEach(p -> RenderUtils.visitTypeInstance(usedTypes, p.getType()));
         definition.getSuperTypes().forEach(i -> RenderUtils.visitTypeInstance(usedTypes, i));
@@ -111,10 +118,15 @@ public class InterfaceTypeEmitter extends BaseTypeEmitter {
             .forEach(i -> RenderUtils.visitTypeInstance(usedTypes, i));
         //Don't add an import for itself
         usedTypes.remove(definition);
+        return usedTypes;
+    }
+
+    @Override
+    protected void renderImports(final TypeDefinition definition, final CodeWriter writer) {
         if (StringUtils.hasText(context.getGenConfig().getAdditionalModelIncludes())) {
-            writer.println(context.getGenConfig().getAdditionalModelIncludes());
+            writer.line(context.getGenConfig().getAdditionalModelIncludes());
         }
-        RenderUtils.<TypeDefinition>renderImports(usedTypes, writer, (d) -> context.getNamingStrategy().getRelativeFileName(definition, d));
+        RenderUtils.<TypeDefinition>renderImports(getUsedTypes(definition), writer, (d) -> context.getNamingStrategy().getRelativeFileName(definition, d));
     }
 
 }
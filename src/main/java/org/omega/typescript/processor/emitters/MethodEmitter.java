@@ -26,11 +26,10 @@ import org.omega.typescript.processor.model.EndpointMethod;
 import org.omega.typescript.processor.model.MappingDefinition;
 import org.omega.typescript.processor.model.MethodParameter;
 import org.omega.typescript.processor.model.PathVariableDefinition;
-import org.omega.typescript.processor.utils.StringUtils;
+import org.omega.typescript.processor.utils.CodeWriter;
 
-import java.io.PrintWriter;
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -50,40 +49,40 @@ public class MethodEmitter {
         this.context = context;
     }
 
-    public void renderMethod(final EndpointMethod method, final PrintWriter writer) {
-        writer.printf(context.indent() + "public %s", method.getMethodName() + "(");
-
-        writer.print(getParamDeclaration(method));
-
-        writer.printf("): Observable<%s> {\n", context.getInstanceRenderer().renderTypeInstance(method.getReturnType()));
-        writer.printf(context.indent(2) + "const mapping:HttpRequestMapping = ");
-        renderMapping(writer, method.getMappingDefinition()).println(";");
-
-        if (!method.getParams().isEmpty()) {
-            writer.println(context.indent(2) + "const params: MethodParamMapping[] = [");
-            writer.println(
-                    method.getParams().stream()
-                            .map(this::buildParamMapping)
-                            .collect(Collectors.joining(",\n"))
-            );
-            writer.println(context.indent(2) + "];");
+    public void renderMethod(final EndpointMethod method, final CodeWriter writer) {
+        writer.indent().append("public ").append(method.getMethodName()).append('(');
+
+        renderParamDeclaration(method, writer);
+
+        writer.append("): Observable<").append(context.getInstanceRenderer().renderTypeInstance(method.getReturnType())).append("> {\n");
+        writer.indent(2).append("const mapping:HttpRequestMapping = ");
+        renderMapping(writer, method.getMappingDefinition()).line(";");
+
+        final List<MethodParameter> params = method.getParams();
+        if (!params.isEmpty()) {
+            writer.indent(2).line("const params: MethodParamMapping[] = [");
+            for (int index = 0; index < params.size(); ++index) {
+                if (index > 0) {
+                    writer.append(",\n");
+                }
+                renderParamMapping(params.get(index), writer);
+            }
+            writer.newLine();
+            writer.indent(2).line("];");
         } else {
-            writer.println(context.indent(2) + "const params: MethodParamMapping[] = [];");
+            writer.indent(2).line("const params: MethodParamMapping[] = [];");
         }
-        writer.printf(context.indent(2) + "return this.httpService.execute(this.defaultRequestMapping, mapping, params);\n");
-        writer.println(context.indent() + "}\n");
+        writer.indent(2).append("return this.httpService.execute(this.defaultRequestMapping, mapping, params);\n");
+        writer.indent().append("}\n").newLine();
     }
 
-    private String buildParamMapping(MethodParameter param) {
-        final StringBuilder paramData = new StringBuilder();
-        paramData.append(String.format(context.indent(3) + "{paramName: '%s', isRequired: %s, ",
-                StringUtils.escapeString(param.getName(), "'"), hasRequiredMarker(param)));
-        apendOption("pathVariableName", param.getPathVariableName(), paramData);
-        apendOption("requestParameterName", param.getRequestParameterName(), paramData);
-        paramData.append(String.format(" isRequestBody: %s, value: %s}",
-                param.getRequestBody().isPresent(), param.getName()
-        ));
-        return paramData.toString();
+    private void renderParamMapping(final MethodParameter param, final CodeWriter writer) {
+        writer.indent(3).append("{paramName: '").appendEscaped(param.getName(), '\'')
+                .append("', isRequired: ").append(hasRequiredMarker(param)).append(", ");
+        renderOption("pathVariableName", param.getPathVariableName(), writer);
+        renderOption("requestParameterName", param.getRequestParameterName(), writer);
+        writer.append(" isRequestBody: ").append(param.getRequestBody().isPresent())
+                .append(", value: ").append(param.getName()).append('}');
     }
 
     private boolean hasRequiredMarker(final MethodParameter param) {
@@ -93,27 +92,31 @@ public class MethodEmitter {
                 .anyMatch(PathVariableDefinition::isRequired);
     }
 
-    private void apendOption(final String variableName, final Optional<PathVariableDefinition> variableDefinition, final StringBuilder paramData) {
+    private void renderOption(final String variableName, final Optional<PathVariableDefinition> variableDefinition, final CodeWriter writer) {
         variableDefinition.ifPresent(pathVariableDefinition ->
-                paramData.append(String.format("%s: '%s', ", variableName, pathVariableDefinition.getName()))
+                writer.append(variableName).append(": '").append(pathVariableDefinition.getName()).append("', ")
         );
     }
 
-    private String getParamDeclaration(EndpointMethod method) {
-        return method.getParams().stream()
-                    .map(param ->
-                            String.format("%s: %s", param.getName(), context.getInstanceRenderer().renderTypeInstance(param.getType()))
-                    ).collect(Collectors.joining(", "));
+    private void renderParamDeclaration(final EndpointMethod method, final CodeWriter writer) {
+        final List<MethodParameter> params = method.getParams();
+        for (int index = 0; index < params.size(); ++index) {
+            final MethodParameter param = params.get(index);
+            if (index > 0) {
+                writer.append(", ");
+            }
+            writer.append(param.getName()).append(": ").append(context.getInstanceRenderer().renderTypeInstance(param.getType()));
+        }
     }
 
-    public PrintWriter renderMapping(final PrintWriter writer, final MappingDefinition mapping) {
+    public CodeWriter renderMapping(final CodeWriter writer, final MappingDefinition mapping) {
         final Optional<MappingDefinition> mappingDefinitionOptional = Optional.ofNullable(mapping);
-        writer.printf("{urlTemplate: '%s', method: %s}",
-                StringUtils.escapeString(
-                        mappingDefinitionOptional.map(MappingDefinition::getUrlTemplate).orElse(""), "'"),
-                        mappingDefinitionOptional.map(MappingDefinition::getRequestMethod)
-                            .map(v -> "RequestMethod." + v.name()).orElse("null")
-        );
+        writer.append("{urlTemplate: '")
+                .appendEscaped(mappingDefinitionOptional.map(MappingDefinition::getUrlTemplate).orElse(""), '\'')
+                .append("', method: ")
+                .append(mappingDefinitionOptional.map(MappingDefinition::getRequestMethod)
+                        .map(v -> "RequestMethod." + v.name()).orElse("null"))
+                .append('}');
         return writer;
     }
 
@@ -24,6 +24,7 @@ package org.omega.typescript.processor.emitters;
 
 import org.omega.typescript.processor.GenConfig;
 import org.omega.typescript.processor.model.Endpoint;
+import org.omega.typescript.processor.utils.CodeWriter;
 import org.omega.typescript.processor.utils.StringUtils;
 
 import java.io.PrintWriter;
@@ -32,7 +33,6 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Created by kibork on 5/8/2018.
@@ -52,21 +52,26 @@ public class ModuleEmitter {
     }
 
     public void renderModuleDefinition(final Collection<Endpoint> endpoints) {
-        final Map<String, List<Endpoint>> moduleMap = endpoints.stream()
-                .collect(Collectors.groupingBy(Endpoint::getModuleName));
+        groupByModule(endpoints).forEach((name, moduleEndpoints) -> renderModule(moduleEndpoints, name));
+    }
 
-        moduleMap.forEach((name, moduleEndpoints) -> renderModule(moduleEndpoints, name));
+    public Map<String, List<Endpoint>> groupByModule(final Collection<Endpoint> endpoints) {
+        return endpoints.stream()
+                .collect(Collectors.groupingBy(Endpoint::getModuleName));
     }
 
-    private void renderModule(final Collection<Endpoint> endpoints, String moduleName) {
+    public void renderModule(final Collection<Endpoint> endpoints, String moduleName) {
         final GenConfig config = context.getGenConfig();
         if (!StringUtils.hasText(moduleName)) {
             moduleName = config.getDefaultModuleName();
         }
 
-        try (PrintWriter writer = context.getStorageStrategy().createWriter(context.getNamingStrategy().getFullModuleName(moduleName))) {
-            writer.println("import {NgModule} from '@angular/core';\n");
-            writer.printf("import {%s} from '%s';\n", config.getDefaultHttpClassName(), getHttpServiceInclude());
+        final List<String> controllerClasses = endpoints.stream()
+                .map(Endpoint::getControllerClassName)
+                .toList();
+        try (CodeWriter writer = context.openCodeWriter()) {
+            writer.append("import {NgModule} from '@angular/core';\n").newLine();
+            writer.append("import {").append(config.getDefaultHttpClassName()).append("} from '").append(getHttpServiceInclude()).append("';\n");
 
             final List<Endpoint> endpointList = endpoints.stream()
                     .sorted(Comparator.comparing(Endpoint::getControllerName))
@@ -74,25 +79,24 @@ public class ModuleEmitter {
 
             if (!endpointList.isEmpty()) {
                 endpointList.forEach(endpoint ->
-                        writer.printf("import {%s} from '%s';\n", endpoint.getControllerName(), context.getNamingStrategy().getIncludeFileName(endpoint))
+                        writer.append("import {").append(endpoint.getControllerName())
+                                .append("} from '").append(context.getNamingStrategy().getIncludeFileName(endpoint)).append("';\n")
                 );
-                writer.println();
+                writer.newLine();
             }
 
-            writer.println("@NgModule({");
-            writer.println(context.indent() + "providers: [");
-            writer.println(
-                    Stream.concat(
-                        Stream.of(context.indent(2) + config.getDefaultHttpClassName()),
-                        endpointList.stream()
-                            .map(endpoint -> String.format(context.indent(2) + "%s", endpoint.getControllerName()))
-                    )
-                    .collect(Collectors.joining(",\n"))
-            );
-            writer.println(context.indent() + "]");
-            writer.println("})");
-            writer.printf("export class %s { }\n", getModuleClassName(moduleName));
-
+            writer.line("@NgModule({");
+            writer.indent().line("providers: [");
+            writer.indent(2).append(config.getDefaultHttpClassName());
+            endpointList.forEach(endpoint -> writer.append(",\n").indent(2).append(endpoint.getControllerName()));
+            writer.newLine();
+            writer.indent().line("]");
+            writer.line("})");
+            writer.append("export class ").append(getModuleClassName(moduleName)).append(" { }\n");
+
+            try (PrintWriter out = context.getStorageStrategy().createWriter(context.getNamingStrategy().getFullModuleName(moduleName), controllerClasses)) {
+                writer.writeTo(out);
+            }
         } catch (Exception ex) {
             throw new RuntimeException("Failed to render module definition", ex);
         }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.omega.typescript.processor.emitters;
+
+import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.model.TypeKind;
+import org.omega.typescript.processor.services.FileNamingStrategy;
+import org.omega.typescript.processor.utils.CodeWriter;
+import org.omega.typescript.processor.utils.RenderUtils;
+import org.omega.typescript.processor.utils.StringUtils;
+
+import java.io.PrintWriter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes the types sharing a file, used unless tsg.output.layout is per-type. The type bodies are collected for the whole
+ * processing session and written once processing is over, so every file contains the types of all rounds
+ */
+public class TypeBundleEmitter {
+
+    // ---------------- Fields & Constants --------------
+
+    private final FileNamingStrategy namingStrategy;
+
+    /**
+     * Rendered types by file name and type name
+     */
+    private final Map<String, Map<String, BundledType>> bundles = new ConcurrentHashMap<>();
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    public TypeBundleEmitter(final FileNamingStrategy namingStrategy) {
+        this.namingStrategy = namingStrategy;
+    }
+
+    /**
+     * Adds the rendered type to its file, a type rendered again replaces the previous body
+     */
+    public void add(final TypeDefinition definition, final String body, final Set<TypeDefinition> usedTypes) {
+        bundles.computeIfAbsent(namingStrategy.getFullTypeFileName(definition), f -> new ConcurrentHashMap<>())
+                .put(definition.getFullName(), new BundledType(definition, body, usedTypes));
+    }
+
+    public void renderBundles(final EmitContext context) {
+        bundles.keySet().stream()
+                .sorted()
+                .forEach(fileName -> renderBundle(context, fileName, bundles.get(fileName).values().stream()
+                        .sorted(Comparator.comparing(t -> t.definition().getFullName()))
+                        .toList()));
+        bundles.clear();
+    }
+
+    private void renderBundle(final EmitContext context, final String fileName, final List<BundledType> types) {
+        checkNames(context, fileName, types);
+        final Set<TypeDefinition> usedTypes = new HashSet<>();
+        types.forEach(t -> t.usedTypes().stream()
+                .filter(used -> (used != null) && (!used.isPredefined()))
+                .filter(used -> (used.getTypeKind() == TypeKind.INTERFACE) || (used.getTypeKind() == TypeKind.ENUM))
+                .filter(used -> !fileName.equals(namingStrategy.getFullTypeFileName(used)))
+                .forEach(usedTypes::add));
+
+        try (CodeWriter writer = context.openCodeWriter()) {
+            final String modelIncludes = context.getGenConfig().getAdditionalModelIncludes();
+            if (StringUtils.hasText(modelIncludes) && types.stream().anyMatch(t -> t.definition().getTypeKind() == TypeKind.INTERFACE)) {
+                writer.line(modelIncludes);
+            }
+            final TypeDefinition from = types.get(0).definition();
+            RenderUtils.renderImports(usedTypes, writer, (d) -> namingStrategy.getRelativeFileName(from, d));
+            for (int index = 0; index < types.size(); ++index) {
+                if (index > 0) {
+                    writer.newLine();
+                }
+                writer.append(types.get(index).body());
+            }
+            final List<String> originatingClasses = types.stream()
+                    .map(t -> t.definition().getFullName())
+                    .toList();
+            try (PrintWriter out = context.getStorageStrategy().createWriter(fileName, originatingClasses)) {
+                writer.writeTo(out);
+            }
+        } catch (Exception ex) {
+            throw new RuntimeException("Failed to render types into " + fileName, ex);
+        }
+    }
+
+    /**
+     * Types sharing a file are declared in the same TypeScript scope, their names must be unique
+     */
+    private void checkNames(final EmitContext context, final String fileName, final List<BundledType> types) {
+        final Map<String, TypeDefinition> names = new HashMap<>();
+        for (final BundledType type : types) {
+            final TypeDefinition previous = names.putIfAbsent(type.definition().getTypeScriptName(), type.definition());
+            if (previous != null) {
+                context.error("Type Script Generator: " + previous.getFullName() + " and " + type.definition().getFullName() +
+                        " are both emitted as " + type.definition().getTypeScriptName() + " into " + fileName +
+                        ", rename one of them with @TypeScriptName or use tsg.output.layout=per-type");
+            }
+        }
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    private record BundledType(TypeDefinition definition, String body, Set<TypeDefinition> usedTypes) {
+    }
+}
@@ -22,10 +22,12 @@
 
 package org.omega.typescript.processor.emitters;
 
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Counter;
 import org.omega.typescript.processor.model.TypeInstanceDefinition;
 import org.omega.typescript.processor.model.TypeKind;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -39,15 +41,34 @@ public class TypeInstanceEmitter {
 
     private final EmitContext context;
 
+    /**
+     * Rendered type expressions by canonical (interned) instance, shared by every emitter of the session
+     */
+    private final Map<TypeInstanceDefinition, String> renderedInstances;
+
     // ------------------ Properties --------------------
 
     // ------------------ Logic      --------------------
 
-    public TypeInstanceEmitter(final EmitContext context) {
+    public TypeInstanceEmitter(final EmitContext context, final Map<TypeInstanceDefinition, String> renderedInstances) {
         this.context = context;
+        this.renderedInstances = renderedInstances;
     }
 
     public String renderTypeInstance(final TypeInstanceDefinition instanceDefinition) {
+        //Not computeIfAbsent: rendering recurses into the generic arguments, which would update the map re-entrantly
+        final String cached = renderedInstances.get(instanceDefinition);
+        if (cached != null) {
+            context.getProcessingContext().getMetrics().increment(Counter.RENDER_CACHE_HITS);
+            return cached;
+        }
+        context.getProcessingContext().getMetrics().increment(Counter.RENDER_CACHE_MISSES);
+        final String rendered = render(instanceDefinition);
+        final String previous = renderedInstances.putIfAbsent(instanceDefinition, rendered);
+        return previous != null ? previous : rendered;
+    }
+
+    private String render(final TypeInstanceDefinition instanceDefinition) {
         if (instanceDefinition.getTypeKind() == TypeKind.COLLECTION) {
             final String baseTypeName = getCollectionBaseType(instanceDefinition, 0);
             return baseTypeName + instanceDefinition.getTypeScriptName();
@@ -22,15 +22,31 @@
 
 package org.omega.typescript.processor.emitters;
 
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Counter;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Phase;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.PhaseTimer;
+import org.omega.typescript.processor.model.Endpoint;
 import org.omega.typescript.processor.model.EndpointContainer;
 import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.model.TypeGraph;
+import org.omega.typescript.processor.model.TypeInstanceDefinition;
 import org.omega.typescript.processor.model.TypeKind;
 import org.omega.typescript.processor.model.TypeOracle;
 import org.omega.typescript.processor.services.*;
 import org.omega.typescript.processor.utils.IOUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Created by kibork on 5/2/2018.
@@ -49,6 +65,37 @@ public class TypeScriptEmitter implements Emitter {
 
     private ModuleEmitter moduleEmitter;
 
+    private boolean supportFilesRendered = false;
+
+    /**
+     * Controller class names of every module file emitted so far, used to skip modules with unchanged membership
+     */
+    private final Map<String, Set<String>> renderedModules = new HashMap<>();
+
+    /**
+     * Renders files concurrently when tsg.render.parallelism is above 1, kept for the whole processing session
+     */
+    private ForkJoinPool renderPool;
+
+    private DeferredStorageStrategy deferredStorage;
+
+    /**
+     * Created in the first round and kept for the whole processing session, {@link #flush()} completes its pending writes
+     */
+    private GenConfigBasedNamingStrategy namingStrategy;
+
+    private StorageStrategy storageStrategy;
+
+    /**
+     * Collects the types sharing a file for the whole processing session, null if every type gets its own file
+     */
+    private TypeBundleEmitter bundleEmitter;
+
+    /**
+     * Rendered type expressions by interned type instance, kept for the whole processing session
+     */
+    private final Map<TypeInstanceDefinition, String> renderedInstances = new ConcurrentHashMap<>();
+
     // ------------------ Properties --------------------
 
     // ------------------ Logic      --------------------
@@ -56,11 +103,27 @@ public class TypeScriptEmitter implements Emitter {
 
     @Override
     public void initContext(final ProcessingContext execContext) {
+        if (storageStrategy == null) {
+            namingStrategy = new GenConfigBasedNamingStrategy(execContext);
+            storageStrategy = getStorageStrategy(execContext, namingStrategy);
+            if (execContext.getGenConfig().getOutputLayout() != OutputLayout.PER_TYPE) {
+                bundleEmitter = new TypeBundleEmitter(namingStrategy);
+            }
+        }
 
-        final GenConfigBasedNamingStrategy namingStrategy = new GenConfigBasedNamingStrategy(execContext);
-
-        final StorageStrategy storageStrategy = getStorageStrategy(execContext, namingStrategy);
-        this.context = new EmitContext(execContext, namingStrategy, storageStrategy);
+        final int parallelism = execContext.getGenConfig().getRenderParallelism();
+        if (parallelism > 1) {
+            if ((renderPool == null) || (renderPool.getParallelism() != parallelism)) {
+                shutdownRenderPool();
+                renderPool = new ForkJoinPool(parallelism);
+            }
+            deferredStorage = new DeferredStorageStrategy(execContext, namingStrategy, storageStrategy);
+            this.context = new EmitContext(execContext, namingStrategy, deferredStorage, renderedInstances, bundleEmitter);
+        } else {
+            shutdownRenderPool();
+            deferredStorage = null;
+            this.context = new EmitContext(execContext, namingStrategy, storageStrategy, renderedInstances, bundleEmitter);
+        }
         addDefinitionRenderer(new InterfaceTypeEmitter(context));
         addDefinitionRenderer(new EnumTypeEmitter(context));
 
@@ -69,8 +132,33 @@ public class TypeScriptEmitter implements Emitter {
     }
 
     private StorageStrategy getStorageStrategy(final ProcessingContext execContext, final GenConfigBasedNamingStrategy namingStrategy) {
-        switch (execContext.getGenConfig().getStorageStrategy().toLowerCase()) {
+        BaseStorageStrategy storage = getBaseStorageStrategy(execContext, namingStrategy);
+        if (execContext.getGenConfig().isManifestEnabled()) {
+            storage = new ManifestStorageStrategy(execContext, namingStrategy, storage,
+                    namingStrategy.getFullFileName(ManifestStorageStrategy.MANIFEST_FILE_NAME));
+        }
+        final int writeBehindThreads = execContext.getGenConfig().getWriteBehindThreads();
+        if (writeBehindThreads > 0) {
+            return new WriteBehindStorageStrategy(execContext, namingStrategy, storage,
+                    writeBehindThreads, execContext.getGenConfig().getWriteBehindQueueSize());
+        }
+        return storage;
+    }
+
+    private BaseStorageStrategy getBaseStorageStrategy(final ProcessingContext execContext, final GenConfigBasedNamingStrategy namingStrategy) {
+        final String strategyName = execContext.getGenConfig().getStorageStrategy().toLowerCase();
+        if ((!"javac".equals(strategyName)) && (!"archive".equals(strategyName)) && execContext.isGradleIncrementalBuild()) {
+            execContext.warning("Type Script Generator: storage strategy '" + strategyName + "' writes outside of the javac Filer, " +
+                    "Gradle incremental compilation doesn't track these files. All endpoints are still reprocessed on every build, " +
+                    "but files of removed types and endpoints are left behind unless tsg.output.manifest is enabled. " +
+                    "Use tsg.storage-strategy=javac to let Gradle manage the output.");
+        }
+        switch (strategyName) {
             case "javac": return new JavacStorageStrategy(execContext, namingStrategy);
+            case "file-if-changed": return new WriteIfChangedStorageStrategy(execContext, namingStrategy);
+            case "nio": return new NioStorageStrategy(execContext, namingStrategy);
+            case "archive": return new ArchiveStorageStrategy(execContext, namingStrategy, new JavacStorageStrategy(execContext, namingStrategy),
+                    namingStrategy.getFullFileName(execContext.getGenConfig().getArchiveFileName()));
             default: return new FileStorageStrategy(execContext, namingStrategy);
         }
     }
@@ -80,12 +168,65 @@ public class TypeScriptEmitter implements Emitter {
     }
 
     @Override
-    public synchronized void renderTypes(final TypeOracle oracle) {
-        oracle.getKnownTypes()
-                .stream()
-                .filter(t -> !t.isPredefined())
-                .forEach(this::renderType);
-   }
+    public synchronized void renderTypes(final TypeOracle oracle, final EndpointContainer endpointContainer) {
+        try (PhaseTimer ignored = context.getProcessingContext().getMetrics().start(Phase.RENDERING)) {
+            final List<TypeDefinition> dirtyTypes = oracle.getDirtyTypes();
+            final Predicate<TypeDefinition> reachable = getReachabilityFilter(oracle, endpointContainer);
+            final List<TypeDefinition> types = dirtyTypes.stream()
+                    .filter(t -> !t.isPredefined())
+                    .filter(reachable)
+                    .sorted(Comparator.comparing(TypeDefinition::getFullName))
+                    .toList();
+            render(types, this::renderType);
+            flushDeferredFiles();
+
+            // Unreachable types stay dirty, an endpoint of a later round may still reference them
+            final List<TypeDefinition> emitted = dirtyTypes.stream()
+                    .filter(t -> t.isPredefined() || reachable.test(t))
+                    .toList();
+            oracle.markClean(emitted);
+            if (emitted.size() < dirtyTypes.size()) {
+                context.debug("Type Script Generator: " + (dirtyTypes.size() - emitted.size()) +
+                        " types are not reachable from any endpoint and were not emitted");
+            }
+        }
+    }
+
+    /**
+     * Types are only emitted if an endpoint references them through method parameters, return types and
+     * from there properties, supertypes and generic arguments, unless tsg.output.prune-unreachable is disabled
+     */
+    private Predicate<TypeDefinition> getReachabilityFilter(final TypeOracle oracle, final EndpointContainer endpointContainer) {
+        if (!context.getGenConfig().isPruneUnreachableTypes()) {
+            return t -> true;
+        }
+        final Set<String> reachableTypes = TypeGraph.build(endpointContainer.getEndpointMap().values(), oracle.getKnownTypes())
+                .getTypesReachableFromEndpoints();
+        return t -> reachableTypes.contains(t.getFullName());
+    }
+
+    /**
+     * Renders the snapshot either on the calling thread or on the render pool. The model is complete at this point,
+     * rendering only reads it and every item produces its own file
+     */
+    private <T> void render(final List<T> items, final Consumer<T> renderer) {
+        if ((renderPool == null) || (items.size() < 2)) {
+            items.forEach(renderer);
+        } else {
+            renderPool.submit(() -> items.parallelStream().forEach(renderer)).join();
+        }
+    }
+
+    private void flushDeferredFiles() {
+        if (deferredStorage == null) {
+            return;
+        }
+        try {
+            deferredStorage.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write generated files", ex);
+        }
+    }
 
     private void renderType(final TypeDefinition t) {
         final TypeDefinitionEmitter renderer = definitionRenderers.get(t.getTypeKind());
@@ -96,16 +237,105 @@ public class TypeScriptEmitter implements Emitter {
 
     @Override
     public synchronized void renderEndpoints(final EndpointContainer endpointContainer) {
+        final List<Endpoint> dirtyEndpoints = endpointContainer.drainDirtyEndpoints().stream()
+                .sorted(Comparator.comparing(Endpoint::getControllerClassName))
+                .toList();
+        if (dirtyEndpoints.isEmpty()) {
+            return;
+        }
+        try (PhaseTimer ignored = context.getProcessingContext().getMetrics().start(Phase.RENDERING)) {
+            renderSupportFiles();
+
+            render(dirtyEndpoints, endpointEmitter::renderEndpoint);
+
+            renderChangedModules(endpointContainer);
+            flushDeferredFiles();
+        }
+    }
+
+    private void renderSupportFiles() {
+        if (supportFilesRendered) {
+            return;
+        }
         final String serviceIncludeFileName = context.getNamingStrategy().getFullFileName(context.getGenConfig().getStdApiFileName());
         final String requestManagerFileName = context.getNamingStrategy().getFullFileName(context.getGenConfig().getRequestManagerFileName());
-        IOUtils.copyResource("/ts/service-api.ts", context.getStorageStrategy().getFile(serviceIncludeFileName));
-        IOUtils.copyResource("/ts/ServiceRequestManager.ts", context.getStorageStrategy().getFile(requestManagerFileName));
+        copySupportFile("/ts/service-api.ts", serviceIncludeFileName);
+        copySupportFile("/ts/ServiceRequestManager.ts", requestManagerFileName);
+        supportFilesRendered = true;
+    }
 
-        endpointContainer.getEndpointMap()
-                .values()
-                .forEach(endpoint -> endpointEmitter.renderEndpoint(endpoint));
+    private void copySupportFile(final String resourcePath, final String fileName) {
+        if (!IOUtils.copyResource(resourcePath, context.getStorageStrategy().getFile(fileName))) {
+            context.error("Type Script Generator: failed to write the support file " + fileName);
+        }
+    }
 
-        moduleEmitter.renderModuleDefinition(endpointContainer.getEndpointMap().values());
+    private void renderChangedModules(final EndpointContainer endpointContainer) {
+        final Map<String, List<Endpoint>> modules = moduleEmitter.groupByModule(endpointContainer.getEndpointMap().values());
+        modules.forEach((moduleName, moduleEndpoints) -> {
+            final Set<String> members = moduleEndpoints.stream()
+                    .map(Endpoint::getControllerClassName)
+                    .collect(Collectors.toSet());
+            if (!members.equals(renderedModules.get(moduleName))) {
+                moduleEmitter.renderModule(moduleEndpoints, moduleName);
+                renderedModules.put(moduleName, members);
+            }
+        });
+    }
+
+    @Override
+    public void reportStatistics() {
+        if (context == null) {
+            return;
+        }
+        final StorageStatistics statistics = context.getStorageStrategy().getStatistics();
+        context.getProcessingContext().getMetrics().add(Counter.FILES_WRITTEN, statistics.getWrittenFiles());
+        context.getProcessingContext().getMetrics().add(Counter.FILES_SKIPPED, statistics.getSkippedFiles());
+        context.getProcessingContext().getMetrics().add(Counter.FILES_DELETED, statistics.getDeletedFiles());
+        context.debug("Type Script Generator: " + statistics);
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (storageStrategy == null) {
+            return;
+        }
+        if (bundleEmitter != null) {
+            try {
+                bundleEmitter.renderBundles(context);
+                flushDeferredFiles();
+            } catch (RuntimeException ex) {
+                context.error("Type Script Generator: failed to write the shared type files: " + ex.getMessage());
+            }
+        }
+        try {
+            storageStrategy.close();
+        } catch (IOException ex) {
+            context.error("Type Script Generator: failed to complete the generated files: " + ex.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        shutdownRenderPool();
+        deferredStorage = null;
+        storageStrategy = null;
+        namingStrategy = null;
+        bundleEmitter = null;
+        context = null;
+        endpointEmitter = null;
+        moduleEmitter = null;
+        definitionRenderers.clear();
+        supportFilesRendered = false;
+        renderedModules.clear();
+        renderedInstances.clear();
+    }
+
+    private void shutdownRenderPool() {
+        if (renderPool != null) {
+            renderPool.shutdown();
+            renderPool = null;
+        }
     }
 
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Lookup of an annotation, directly present or meta-annotated, with its aliased attributes
+ */
+@Name("org.omega.typescript.AnnotationResolved")
+@Label("Annotation Resolved")
+@Category({"Type Script Generator"})
+@Description("Lookup of an annotation, directly present or meta-annotated, with its aliased attributes")
+@Enabled(false)
+@StackTrace(false)
+public class AnnotationResolved extends Event {
+
+    // ---------------- Fields & Constants --------------
+
+    @Label("Annotation Class")
+    private String annotationClassName;
+
+    @Label("Element")
+    private String element;
+
+    @Label("Cache Hit")
+    private boolean cacheHit;
+
+    @Label("Found")
+    private boolean found;
+
+    // ------------------ Logic      --------------------
+
+    /**
+     * Ends the event and commits it, the values are only assigned when the recording accepts the event
+     */
+    public void complete(final String annotationClassName, final Object element, final boolean cacheHit, final boolean found) {
+        if (shouldCommit()) {
+            this.annotationClassName = annotationClassName;
+            this.element = String.valueOf(element);
+            this.cacheHit = cacheHit;
+            this.found = found;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A generated file handed to the storage strategy
+ */
+@Name("org.omega.typescript.FileEmitted")
+@Label("File Emitted")
+@Category({"Type Script Generator"})
+@Description("A generated file handed to the storage strategy")
+@Enabled(false)
+@StackTrace(false)
+public class FileEmitted extends Event {
+
+    // ---------------- Fields & Constants --------------
+
+    @Label("File Name")
+    private String fileName;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Skipped")
+    @Description("The content was unchanged and the file was not written")
+    private boolean skipped;
+
+    // ------------------ Logic      --------------------
+
+    /**
+     * Ends the event and commits it, the values are only assigned when the recording accepts the event
+     */
+    public void complete(final String fileName, final long bytes, final boolean skipped) {
+        if (shouldCommit()) {
+            this.fileName = fileName;
+            this.bytes = bytes;
+            this.skipped = skipped;
+            commit();
+        }
+    }
+}
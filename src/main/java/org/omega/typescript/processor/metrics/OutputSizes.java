@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Size of the files generated for every type and endpoint, keyed by the originating class name.
+ * Only collected for the type graph report
+ */
+public class OutputSizes {
+
+    // ---------------- Fields & Constants --------------
+
+    private final boolean enabled;
+
+    private final Map<String, Long> sizes = new ConcurrentHashMap<>();
+
+    // ------------------ Properties --------------------
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return bytes generated for the class, 0 if no file was written for it during this compilation
+     */
+    public long getSize(final String className) {
+        return sizes.getOrDefault(className, 0L);
+    }
+
+    // ------------------ Logic      --------------------
+
+    public OutputSizes(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Files generated from several classes (modules) or from none (support files) are not attributed
+     */
+    public void record(final Collection<String> originatingClasses, final long bytes) {
+        if (enabled && (originatingClasses.size() == 1)) {
+            sizes.put(originatingClasses.iterator().next(), bytes);
+        }
+    }
+}
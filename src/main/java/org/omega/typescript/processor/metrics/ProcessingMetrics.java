@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.metrics;
+
+import org.omega.typescript.processor.utils.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Wall clock time and invocation counts of the processing phases plus the counters of a processing session.
+ * Enabled with -Atsg.metrics=true, otherwise every call is a no-op.
+ *
+ * Phases nest (type definitions are built while endpoints are built, naming runs while rendering), the time
+ * of every phase is inclusive. Recursive entries into the same phase are only timed once
+ */
+public class ProcessingMetrics {
+
+    // ---------------- Fields & Constants --------------
+
+    public static final String OPTION = "tsg.metrics";
+
+    public static final String REPORT_FILE_NAME = "tsg-metrics.json";
+
+    private static final PhaseTimer NO_OP = () -> { };
+
+    private final boolean enabled;
+
+    private final LongAdder[] phaseNanos = newAdders(Phase.values().length);
+
+    private final LongAdder[] phaseCounts = newAdders(Phase.values().length);
+
+    private final LongAdder[] counters = newAdders(Counter.values().length);
+
+    private final PhaseTimer[] timers;
+
+    /**
+     * Per thread nesting depth and start time of every phase
+     */
+    private final ThreadLocal<long[][]> threadState = ThreadLocal.withInitial(() -> new long[2][Phase.values().length]);
+
+    // ------------------ Properties --------------------
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getNanos(final Phase phase) {
+        return phaseNanos[phase.ordinal()].sum();
+    }
+
+    public long getCount(final Phase phase) {
+        return phaseCounts[phase.ordinal()].sum();
+    }
+
+    public long getCounter(final Counter counter) {
+        return counters[counter.ordinal()].sum();
+    }
+
+    // ------------------ Logic      --------------------
+
+    public ProcessingMetrics(final boolean enabled) {
+        this.enabled = enabled;
+        this.timers = Arrays.stream(Phase.values())
+                .map(phase -> (PhaseTimer) () -> stop(phase))
+                .toArray(PhaseTimer[]::new);
+    }
+
+    private static LongAdder[] newAdders(final int size) {
+        final LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; ++i) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Starts timing the phase on the current thread, intended for try-with-resources
+     */
+    public PhaseTimer start(final Phase phase) {
+        if (!enabled) {
+            return NO_OP;
+        }
+        final int index = phase.ordinal();
+        final long[][] state = threadState.get();
+        if (state[0][index]++ == 0) {
+            state[1][index] = System.nanoTime();
+        }
+        phaseCounts[index].increment();
+        return timers[index];
+    }
+
+    private void stop(final Phase phase) {
+        final int index = phase.ordinal();
+        final long[][] state = threadState.get();
+        if (--state[0][index] == 0) {
+            phaseNanos[index].add(System.nanoTime() - state[1][index]);
+        }
+    }
+
+    public void increment(final Counter counter) {
+        if (enabled) {
+            counters[counter.ordinal()].increment();
+        }
+    }
+
+    public void add(final Counter counter, final long value) {
+        if (enabled) {
+            counters[counter.ordinal()].add(value);
+        }
+    }
+
+    /**
+     * @return single line summary, printed as a javac note
+     */
+    public String getSummary() {
+        final String phases = Arrays.stream(Phase.values())
+                .map(phase -> phase.getName() + " " + TimeUnit.NANOSECONDS.toMillis(getNanos(phase)) + " ms (" + getCount(phase) + ")")
+                .collect(Collectors.joining(", "));
+        final String counterValues = Arrays.stream(Counter.values())
+                .map(counter -> counter.getName() + " " + getCounter(counter))
+                .collect(Collectors.joining(", "));
+        return "Type Script Generator metrics: " + phases + "; " + counterValues;
+    }
+
+    public void writeReport(final Writer out) throws IOException {
+        final JsonWriter json = new JsonWriter(out);
+        json.beginObject();
+        json.name("phases").beginObject();
+        for (final Phase phase : Phase.values()) {
+            json.name(phase.getName()).beginObject()
+                    .name("count").value(getCount(phase))
+                    .name("millis").value(getNanos(phase) / (double) TimeUnit.MILLISECONDS.toNanos(1))
+                    .endObject();
+        }
+        json.endObject();
+        json.name("counters").beginObject();
+        for (final Counter counter : Counter.values()) {
+            json.name(counter.getName()).value(getCounter(counter));
+        }
+        json.endObject();
+        json.endObject();
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    public interface PhaseTimer extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public enum Phase {
+        TOTAL,
+        CONFIG,
+        ENDPOINTS,
+        TYPES,
+        PROPERTIES,
+        ANNOTATIONS,
+        NAMING,
+        RENDERING;
+
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public enum Counter {
+        TYPES_BUILT,
+        ENDPOINTS_BUILT,
+        TYPES_RESTORED,
+        ENDPOINTS_RESTORED,
+        ANNOTATION_CACHE_HITS,
+        ANNOTATION_CACHE_MISSES,
+        EXCLUSION_CACHE_HITS,
+        EXCLUSION_CACHE_MISSES,
+        RENDER_CACHE_HITS,
+        RENDER_CACHE_MISSES,
+        FILES_WRITTEN,
+        FILES_SKIPPED,
+        FILES_DELETED;
+
+        public String getName() {
+            final String[] words = name().toLowerCase(Locale.ROOT).split("_");
+            final StringBuilder result = new StringBuilder(words[0]);
+            for (int i = 1; i < words.length; ++i) {
+                result.append(Character.toUpperCase(words[i].charAt(0))).append(words[i].substring(1));
+            }
+            return result.toString();
+        }
+    }
+}
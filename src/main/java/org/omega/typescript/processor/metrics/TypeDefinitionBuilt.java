@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java type converted into a TypeScript definition, including the types it discovered
+ */
+@Name("org.omega.typescript.TypeDefinitionBuilt")
+@Label("Type Definition Built")
+@Category({"Type Script Generator"})
+@Description("A Java type converted into a TypeScript definition, including the types it discovered")
+@Enabled(false)
+@StackTrace(false)
+public class TypeDefinitionBuilt extends Event {
+
+    // ---------------- Fields & Constants --------------
+
+    @Label("Type Name")
+    private String typeName;
+
+    @Label("Property Count")
+    private int propertyCount;
+
+    // ------------------ Logic      --------------------
+
+    /**
+     * Ends the event and commits it, the values are only assigned when the recording accepts the event
+     */
+    public void complete(final String typeName, final int propertyCount) {
+        if (shouldCommit()) {
+            this.typeName = typeName;
+            this.propertyCount = propertyCount;
+            commit();
+        }
+    }
+}
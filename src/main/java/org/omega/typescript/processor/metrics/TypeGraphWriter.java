@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.metrics;
+
+import org.omega.typescript.processor.model.TypeGraph;
+import org.omega.typescript.processor.model.TypeGraph.Edge;
+import org.omega.typescript.processor.model.TypeGraph.Node;
+import org.omega.typescript.processor.utils.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Exports the {@link TypeGraph} of a compilation as JSON, with the transitive type count and generated size
+ * of every endpoint, and as a Graphviz DOT file. Enabled with -Atsg.typeGraph=true
+ */
+public class TypeGraphWriter {
+
+    // ---------------- Fields & Constants --------------
+
+    public static final String OPTION = "tsg.typeGraph";
+
+    public static final String JSON_FILE_NAME = "tsg-type-graph.json";
+
+    public static final String DOT_FILE_NAME = "tsg-type-graph.dot";
+
+    private final TypeGraph graph;
+
+    private final OutputSizes outputSizes;
+
+    // ------------------ Logic      --------------------
+
+    public TypeGraphWriter(final TypeGraph graph, final OutputSizes outputSizes) {
+        this.graph = graph;
+        this.outputSizes = outputSizes;
+    }
+
+    public void writeJson(final Writer out) throws IOException {
+        final Map<String, Edge> discoveryEdges = graph.getDiscoveryEdges();
+        final Map<String, Integer> referenceCounts = new HashMap<>();
+        graph.getNodes().forEach(node -> node.getEdges().forEach(edge -> referenceCounts.merge(edge.target(), 1, Integer::sum)));
+
+        final JsonWriter json = new JsonWriter(out);
+        json.beginObject();
+
+        json.name("endpoints").beginArray();
+        for (final Node endpoint : graph.getEndpointNodes()) {
+            final Set<String> reachable = graph.getReachableTypes(endpoint.getName());
+            final long ownSize = outputSizes.getSize(endpoint.getName());
+            final long typesSize = reachable.stream().mapToLong(outputSizes::getSize).sum();
+            json.beginObject()
+                    .name("name").value(endpoint.getName())
+                    .name("transitiveTypes").value(reachable.size())
+                    .name("fileSize").value(ownSize)
+                    .name("transitiveFileSize").value(ownSize + typesSize)
+                    .endObject();
+        }
+        json.endArray();
+
+        json.name("types").beginArray();
+        for (final Node type : graph.getTypeNodes()) {
+            final Edge discoveredBy = discoveryEdges.get(type.getName());
+            json.beginObject()
+                    .name("name").value(type.getName())
+                    .name("kind").value(type.getKind())
+                    .name("fileSize").value(outputSizes.getSize(type.getName()))
+                    .name("referencedBy").value(referenceCounts.getOrDefault(type.getName(), 0))
+                    .name("reachedFrom").value(discoveredBy == null ? null : discoveredBy.source())
+                    .name("reachedVia").value(discoveredBy == null ? null : discoveredBy.describe())
+                    .name("path").value(TypeGraph.describe(graph.getDiscoveryPath(type.getName(), discoveryEdges)))
+                    .endObject();
+        }
+        json.endArray();
+
+        json.name("edges").beginArray();
+        for (final Node node : graph.getNodes()) {
+            for (final Edge edge : node.getEdges()) {
+                json.beginObject()
+                        .name("source").value(edge.source())
+                        .name("target").value(edge.target())
+                        .name("kind").value(edge.kind().name())
+                        .name("label").value(edge.label())
+                        .endObject();
+            }
+        }
+        json.endArray();
+
+        json.endObject();
+    }
+
+    public void writeDot(final Writer out) throws IOException {
+        out.write("digraph tsg {\n");
+        out.write("  rankdir=LR;\n");
+        out.write("  node [fontsize=10];\n");
+        out.write("  edge [fontsize=8];\n");
+        for (final Node node : graph.getNodes()) {
+            out.write("  " + quote(node.getName()) + " [label=" + quote(node.getName() + "\n" + outputSizes.getSize(node.getName()) + " bytes")
+                    + (node.isEndpoint() ? ", shape=box, style=filled, fillcolor=lightblue" : ", shape=ellipse") + "];\n");
+        }
+        for (final Node node : graph.getNodes()) {
+            for (final Edge edge : node.getEdges()) {
+                out.write("  " + quote(edge.source()) + " -> " + quote(edge.target()) + " [label=" + quote(edge.describe())
+                        + edgeStyle(edge) + "];\n");
+            }
+        }
+        out.write("}\n");
+    }
+
+    private static String edgeStyle(final Edge edge) {
+        switch (edge.kind()) {
+            case SUPERTYPE: return ", arrowhead=empty";
+            case GENERIC_ARGUMENT: return ", style=dashed";
+            case METHOD_PARAM:
+            case RETURN_TYPE: return ", color=blue";
+            default: return "";
+        }
+    }
+
+    private static String quote(final String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+}
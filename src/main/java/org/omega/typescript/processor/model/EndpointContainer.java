@@ -24,10 +24,16 @@ package org.omega.typescript.processor.model;
 
 import org.omega.typescript.api.TypeScriptEndpoint;
 import org.omega.typescript.processor.builders.EndpointDefinitionBuilder;
+import org.omega.typescript.processor.metrics.EndpointBuilt;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Counter;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Phase;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.PhaseTimer;
 import org.omega.typescript.processor.services.ProcessingContext;
 
 import javax.lang.model.element.TypeElement;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -43,17 +49,26 @@ public class EndpointContainer {
 
     private final Map<String, Endpoint> endpointMap = new ConcurrentHashMap<>();
 
+    /**
+     * Endpoints created or changed since the last time they were emitted
+     */
+    private final Map<String, Endpoint> dirtyEndpoints = new ConcurrentHashMap<>();
+
     // ------------------ Properties --------------------
 
     public Map<String, Endpoint> getEndpointMap() {
         return Collections.unmodifiableMap(endpointMap);
     }
 
+    public boolean hasDirtyEndpoints() {
+        return !dirtyEndpoints.isEmpty();
+    }
+
 
     // ------------------ Logic      --------------------
 
     public Optional<Endpoint> getEndpoint(final String controllerClassName) {
-        return Optional.ofNullable(endpointMap.get(controllerClassName.intern()));
+        return Optional.ofNullable(endpointMap.get(controllerClassName));
     }
 
     public boolean hasEndpoint(final String controllerClassName) {
@@ -64,15 +79,55 @@ public class EndpointContainer {
         if (type.getAnnotation(TypeScriptEndpoint.class) == null) {
             throw new IllegalArgumentException("Type is not an Type Script controller " + type.getQualifiedName());
         }
-        final String controllerClassName = type.getQualifiedName().toString().intern();
+        final String controllerClassName = type.getQualifiedName().toString();
         return endpointMap.computeIfAbsent(controllerClassName,
-            (className) ->
-                new EndpointDefinitionBuilder(context)
-                        .buildEndpoint(type)
+            (className) -> {
+                final EndpointBuilt event = new EndpointBuilt();
+                event.begin();
+                context.getTypeBudget().enterEndpoint(className);
+                final Optional<Endpoint> cachedEndpoint;
+                final Endpoint endpoint;
+                try {
+                    cachedEndpoint = context.getModelCache().restoreEndpoint(className, context);
+                    endpoint = cachedEndpoint
+                            .orElseGet(() -> {
+                                try (PhaseTimer ignored = context.getMetrics().start(Phase.ENDPOINTS)) {
+                                    context.getMetrics().increment(Counter.ENDPOINTS_BUILT);
+                                    return new EndpointDefinitionBuilder(context).buildEndpoint(type);
+                                }
+                            });
+                } finally {
+                    context.getTypeBudget().exit();
+                }
+                markDirty(endpoint);
+                event.complete(className, endpoint.getEndpointMethods().size(), cachedEndpoint.isPresent());
+                return endpoint;
+            }
         );
     }
 
+    public void markDirty(final Endpoint endpoint) {
+        dirtyEndpoints.put(endpoint.getControllerClassName(), endpoint);
+    }
+
+    /**
+     * Returns the endpoints created or changed since the previous call and resets the dirty state
+     *
+     * @return endpoints that need to be emitted
+     */
+    public List<Endpoint> drainDirtyEndpoints() {
+        final List<Endpoint> result = new ArrayList<>(dirtyEndpoints.size());
+        for (final String className : new ArrayList<>(dirtyEndpoints.keySet())) {
+            final Endpoint endpoint = dirtyEndpoints.remove(className);
+            if (endpoint != null) {
+                result.add(endpoint);
+            }
+        }
+        return result;
+    }
+
     public void clear() {
         endpointMap.clear();
+        dirtyEndpoints.clear();
     }
 }
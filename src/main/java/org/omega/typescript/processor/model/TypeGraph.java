@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * References between the endpoints and the emitted types, derived from the resolved model. Every edge records
+ * why a type was pulled in: a property, a supertype (or a bound of a type parameter), a generic argument
+ * of one of those, a method parameter or a return type.
+ * Types restored from the model cache are part of the graph as well, as the graph doesn't depend on how the model was built
+ */
+public class TypeGraph {
+
+    // ---------------- Fields & Constants --------------
+
+    /**
+     * Types and endpoints by name, the outgoing edges of every node are kept in model order
+     */
+    private final Map<String, Node> nodes = new TreeMap<>();
+
+    // ------------------ Properties --------------------
+
+    public Collection<Node> getNodes() {
+        return Collections.unmodifiableCollection(nodes.values());
+    }
+
+    public List<Node> getEndpointNodes() {
+        return nodes.values().stream().filter(Node::isEndpoint).toList();
+    }
+
+    public List<Node> getTypeNodes() {
+        return nodes.values().stream().filter(node -> !node.isEndpoint()).toList();
+    }
+
+    public Node getNode(final String name) {
+        return nodes.get(name);
+    }
+
+    // ------------------ Logic      --------------------
+
+    public static TypeGraph build(final Collection<Endpoint> endpoints, final Collection<TypeDefinition> types) {
+        final TypeGraph graph = new TypeGraph();
+        types.stream()
+                .filter(TypeGraph::isEmitted)
+                .forEach(type -> graph.nodes.put(type.getFullName(), new Node(type.getFullName(), type.getTypeKind().name(), false)));
+        endpoints.forEach(endpoint -> graph.nodes.put(endpoint.getControllerClassName(),
+                new Node(endpoint.getControllerClassName(), "ENDPOINT", true)));
+
+        types.stream()
+                .filter(TypeGraph::isEmitted)
+                .forEach(graph::addTypeEdges);
+        endpoints.forEach(graph::addEndpointEdges);
+        return graph;
+    }
+
+    private static boolean isEmitted(final TypeDefinition type) {
+        return (!type.isPredefined()) && ((type.getTypeKind() == TypeKind.INTERFACE) || (type.getTypeKind() == TypeKind.ENUM));
+    }
+
+    private void addTypeEdges(final TypeDefinition type) {
+        final String source = type.getFullName();
+        for (final TypeInstanceDefinition superType : type.getSuperTypes()) {
+            addInstanceEdges(source, superType, EdgeKind.SUPERTYPE, null);
+        }
+        for (final TypeDefinition typeParam : type.getGenericTypeParams()) {
+            for (final TypeInstanceDefinition bound : typeParam.getSuperTypes()) {
+                addInstanceEdges(source, bound, EdgeKind.SUPERTYPE, typeParam.getShortName());
+            }
+        }
+        for (final PropertyDefinition property : type.getProperties()) {
+            addInstanceEdges(source, property.getType(), EdgeKind.PROPERTY, property.getName());
+        }
+    }
+
+    private void addEndpointEdges(final Endpoint endpoint) {
+        final String source = endpoint.getControllerClassName();
+        for (final EndpointMethod method : endpoint.getEndpointMethods()) {
+            for (final MethodParameter param : method.getParams()) {
+                addInstanceEdges(source, param.getType(), EdgeKind.METHOD_PARAM, method.getMethodName() + "(" + param.getName() + ")");
+            }
+            addInstanceEdges(source, method.getReturnType(), EdgeKind.RETURN_TYPE, method.getMethodName());
+        }
+    }
+
+    private void addInstanceEdges(final String source, final TypeInstanceDefinition instance, final EdgeKind kind, final String label) {
+        if ((instance == null) || (instance.getTypeDefinition() == null)) {
+            return;
+        }
+        final Node target = nodes.get(instance.getTypeDefinition().getFullName());
+        if (target != null) {
+            nodes.get(source).addEdge(new Edge(source, target.getName(), kind, label));
+        }
+        for (final TypeInstanceDefinition argument : instance.getGenericTypeArguments()) {
+            addInstanceEdges(source, argument, EdgeKind.GENERIC_ARGUMENT, label);
+        }
+    }
+
+    /**
+     * @return names of the types reachable from the node, the node itself excluded
+     */
+    public Set<String> getReachableTypes(final String name) {
+        final Set<String> visited = new LinkedHashSet<>();
+        final Deque<String> queue = new ArrayDeque<>();
+        queue.add(name);
+        while (!queue.isEmpty()) {
+            final Node node = nodes.get(queue.poll());
+            for (final Edge edge : node.getEdges()) {
+                if ((!edge.target().equals(name)) && visited.add(edge.target())) {
+                    queue.add(edge.target());
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Breadth first walk from every endpoint in name order
+     *
+     * @return for every reachable type the edge it was first reached through, so following the sources
+     * back leads to the endpoint along the shortest path
+     */
+    public Map<String, Edge> getDiscoveryEdges() {
+        final Map<String, Edge> discovery = new HashMap<>();
+        final Deque<String> queue = new ArrayDeque<>();
+        for (final Node endpoint : getEndpointNodes()) {
+            queue.add(endpoint.getName());
+        }
+        while (!queue.isEmpty()) {
+            final Node node = nodes.get(queue.poll());
+            for (final Edge edge : node.getEdges()) {
+                final Node target = nodes.get(edge.target());
+                if ((!target.isEndpoint()) && (!discovery.containsKey(edge.target()))) {
+                    discovery.put(edge.target(), edge);
+                    queue.add(edge.target());
+                }
+            }
+        }
+        return discovery;
+    }
+
+    /**
+     * @return names of the types reachable from any of the endpoints
+     */
+    public Set<String> getTypesReachableFromEndpoints() {
+        return getDiscoveryEdges().keySet();
+    }
+
+    /**
+     * @return path of edges from an endpoint to the type, empty if the type is not reachable from any endpoint
+     */
+    public List<Edge> getDiscoveryPath(final String typeName, final Map<String, Edge> discoveryEdges) {
+        final List<Edge> path = new ArrayList<>();
+        Edge edge = discoveryEdges.get(typeName);
+        while (edge != null) {
+            path.add(0, edge);
+            edge = discoveryEdges.get(edge.source());
+        }
+        return path;
+    }
+
+    public static String describe(final List<Edge> path) {
+        final StringBuilder result = new StringBuilder();
+        for (final Edge edge : path) {
+            if (result.isEmpty()) {
+                result.append(edge.source());
+            }
+            result.append(" -[").append(edge.describe()).append("]-> ").append(edge.target());
+        }
+        return result.toString();
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    public enum EdgeKind {
+        PROPERTY,
+        SUPERTYPE,
+        GENERIC_ARGUMENT,
+        METHOD_PARAM,
+        RETURN_TYPE
+    }
+
+    /**
+     * @param label property, type parameter or method the reference is declared by, null for direct supertypes
+     */
+    public record Edge(String source, String target, EdgeKind kind, String label) {
+
+        public String describe() {
+            final String kindName = kind.name().toLowerCase().replace('_', ' ');
+            return (label == null) ? kindName : kindName + " " + label;
+        }
+    }
+
+    public static class Node {
+
+        private final String name;
+
+        private final String kind;
+
+        private final boolean endpoint;
+
+        private final Set<Edge> edges = new LinkedHashSet<>();
+
+        Node(final String name, final String kind, final boolean endpoint) {
+            this.name = name;
+            this.kind = kind;
+            this.endpoint = endpoint;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getKind() {
+            return kind;
+        }
+
+        public boolean isEndpoint() {
+            return endpoint;
+        }
+
+        public Collection<Edge> getEdges() {
+            return Collections.unmodifiableSet(edges);
+        }
+
+        private void addEdge(final Edge edge) {
+            edges.add(edge);
+        }
+    }
+}
@@ -22,25 +22,29 @@
 
 package org.omega.typescript.processor.model;
 
-import lombok.Data;
+import lombok.Getter;
+import lombok.ToString;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Created by kibork on 4/9/2018.
+ *
+ * Instances are immutable flyweights, use {@link TypeOracle#getInstance} to obtain the canonical instance of
+ * a type reference, so equal references are the same object and equality is an identity check.
  */
-@Data
+@Getter
+@ToString
 public class TypeInstanceDefinition {
 
     // ------------------ Constants  --------------------
 
     // ------------------ Fields     --------------------
 
-    private TypeDefinition typeDefinition;
+    private final TypeDefinition typeDefinition;
 
-    private List<TypeInstanceDefinition> genericTypeArguments = new ArrayList<>();
+    private final List<TypeInstanceDefinition> genericTypeArguments;
 
     // ------------------ Properties --------------------
 
@@ -84,11 +88,13 @@ public class TypeInstanceDefinition {
     // ------------------ Logic      --------------------
 
 
-    public TypeInstanceDefinition() {
+    public TypeInstanceDefinition(final TypeDefinition typeDefinition) {
+        this(typeDefinition, List.of());
     }
 
-    public TypeInstanceDefinition(final TypeDefinition typeDefinition) {
+    public TypeInstanceDefinition(final TypeDefinition typeDefinition, final List<TypeInstanceDefinition> genericTypeArguments) {
         this.typeDefinition = typeDefinition;
+        this.genericTypeArguments = List.copyOf(genericTypeArguments);
     }
 
     public Optional<PropertyDefinition> getPropertyByName(final String propertyName) {
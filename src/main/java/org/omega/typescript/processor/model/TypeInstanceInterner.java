@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hash-conses type references for the processing session: a type definition with a given list of canonical
+ * generic arguments is represented by a single {@link TypeInstanceDefinition}. Keys compare the definition and
+ * the arguments by identity, so interning never walks the type structure.
+ */
+public class TypeInstanceInterner {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    private final Map<InstanceKey, TypeInstanceDefinition> instances = new ConcurrentHashMap<>();
+
+    // ------------------ Properties --------------------
+
+    public int size() {
+        return instances.size();
+    }
+
+    // ------------------ Logic      --------------------
+
+    /**
+     * @param genericTypeArguments arguments that are already interned
+     * @return the canonical instance for the reference
+     */
+    public TypeInstanceDefinition intern(final TypeDefinition typeDefinition, final List<TypeInstanceDefinition> genericTypeArguments) {
+        final InstanceKey key = new InstanceKey(typeDefinition, genericTypeArguments);
+        final TypeInstanceDefinition instance = instances.get(key);
+        if (instance != null) {
+            return instance;
+        }
+        return instances.computeIfAbsent(key, k -> new TypeInstanceDefinition(typeDefinition, genericTypeArguments));
+    }
+
+    public void clear() {
+        instances.clear();
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    private static final class InstanceKey {
+
+        private final TypeDefinition typeDefinition;
+
+        private final TypeInstanceDefinition[] genericTypeArguments;
+
+        private final int hash;
+
+        private InstanceKey(final TypeDefinition typeDefinition, final List<TypeInstanceDefinition> genericTypeArguments) {
+            this.typeDefinition = typeDefinition;
+            this.genericTypeArguments = genericTypeArguments.toArray(new TypeInstanceDefinition[0]);
+            int result = System.identityHashCode(typeDefinition);
+            for (final TypeInstanceDefinition argument : this.genericTypeArguments) {
+                result = 31 * result + System.identityHashCode(argument);
+            }
+            this.hash = result;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InstanceKey other)) {
+                return false;
+            }
+            if ((typeDefinition != other.typeDefinition) || (genericTypeArguments.length != other.genericTypeArguments.length)) {
+                return false;
+            }
+            for (int i = 0; i < genericTypeArguments.length; ++i) {
+                if (genericTypeArguments[i] != other.genericTypeArguments[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
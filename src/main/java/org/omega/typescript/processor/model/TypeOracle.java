@@ -27,13 +27,16 @@ import org.omega.typescript.processor.builders.TypeContainerBuilder;
 import org.omega.typescript.processor.builders.TypeDefinitionBuilder;
 import org.omega.typescript.processor.builders.TypeInstanceBuilder;
 import org.omega.typescript.processor.services.ProcessingContext;
+import org.omega.typescript.processor.services.TypeBudget;
 import org.omega.typescript.processor.utils.TypeUtils;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Types;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -49,6 +52,13 @@ public class TypeOracle {
 
     private final Map<String, TypeDefinition> types = new ConcurrentHashMap<>();
 
+    /**
+     * Types created or changed since the last time they were emitted
+     */
+    private final Map<String, TypeDefinition> dirtyTypes = new ConcurrentHashMap<>();
+
+    private final TypeInstanceInterner instanceInterner = new TypeInstanceInterner();
+
     private TypeDefinitionBuilder typeDefinitionBuilder;
 
     private TypeInstanceBuilder typeInstanceBuilder;
@@ -71,6 +81,10 @@ public class TypeOracle {
         return types.values();
     }
 
+    public boolean hasDirtyTypes() {
+        return !dirtyTypes.isEmpty();
+    }
+
     public ProcessingContext getContext() {
         return context;
     }
@@ -103,11 +117,22 @@ public class TypeOracle {
         );
     }
 
+    /**
+     * Drops every reference to the compiler environment, the resolved types stay available
+     */
+    public void releaseContext() {
+        this.context = null;
+        this.typeDefinitionBuilder = null;
+        this.typeInstanceBuilder = null;
+        this.typeContainerBuilder = null;
+        this.collectionType = null;
+        this.mapType = null;
+        this.mapElement = null;
+    }
+
     public Optional<TypeDefinition> getType(final String qualifiedName) {
-        final boolean isExcluded =
-                context.getGenConfig().getExcludedClasses()
-                        .values().stream()
-                        .anyMatch(p -> p.matcher(qualifiedName).matches());
+        final boolean isExcluded = context != null &&
+                context.getGenConfig().getExclusionMatcher().isExcluded(qualifiedName);
         if (isExcluded) {
             return Optional.of(getAny());
         }
@@ -123,18 +148,70 @@ public class TypeOracle {
         return typeInstanceBuilder.buildDefinition(typeMirror);
     }
 
+    /**
+     * @return the shared instance referencing the type without generic arguments
+     */
+    public TypeInstanceDefinition getInstance(final TypeDefinition typeDefinition) {
+        return instanceInterner.intern(typeDefinition, List.of());
+    }
+
+    /**
+     * @param genericTypeArguments canonical instances obtained from the oracle
+     * @return the shared instance of the generic instantiation
+     */
+    public TypeInstanceDefinition getInstance(final TypeDefinition typeDefinition, final List<TypeInstanceDefinition> genericTypeArguments) {
+        return instanceInterner.intern(typeDefinition, genericTypeArguments);
+    }
+
+    public int getInternedInstanceCount() {
+        return instanceInterner.size();
+    }
+
     public void clear() {
         types.clear();
+        dirtyTypes.clear();
+        instanceInterner.clear();
         initializedPredefinedTypes = false;
     }
 
     public void addType(final TypeDefinition typeDefinition) {
         final String className = typeDefinition.getFullName();
-        types.putIfAbsent(className, typeDefinition);
+        if ((types.putIfAbsent(className, typeDefinition) == null) && (!typeDefinition.isPredefined())) {
+            markDirty(typeDefinition);
+        }
+    }
+
+    public void markDirty(final TypeDefinition typeDefinition) {
+        dirtyTypes.put(typeDefinition.getFullName(), typeDefinition);
+    }
+
+    /**
+     * @return types created or changed since they were last marked clean
+     */
+    public List<TypeDefinition> getDirtyTypes() {
+        return new ArrayList<>(dirtyTypes.values());
+    }
+
+    /**
+     * Resets the dirty state of the emitted types, types marked dirty again in the meantime stay dirty
+     */
+    public void markClean(final Collection<TypeDefinition> emittedTypes) {
+        emittedTypes.forEach(definition -> dirtyTypes.remove(definition.getFullName(), definition));
+    }
+
+    /**
+     * Returns the types created or changed since the previous call and resets the dirty state
+     *
+     * @return types that need to be emitted
+     */
+    public List<TypeDefinition> drainDirtyTypes() {
+        final List<TypeDefinition> result = getDirtyTypes();
+        markClean(result);
+        return result;
     }
 
     public TypeDefinition getAny() {
-        return context.getTypeOracle().getType(Object.class.getName()).orElse(null);
+        return getType(Object.class.getName()).orElse(null);
     }
 
     public TypeInstanceDefinition getAnyInstance() {
@@ -170,7 +247,17 @@ public class TypeOracle {
             }
         }
 
-        return typeDefinitionBuilder.buildClassDefinition(typeElement);
+        final TypeBudget budget = context.getTypeBudget();
+        final String className = TypeUtils.getClassName(typeElement);
+        if (!budget.allowNewType(className)) {
+            return getAny();
+        }
+        budget.enterType(className);
+        try {
+            return typeDefinitionBuilder.buildClassDefinition(typeElement);
+        } finally {
+            budget.exit();
+        }
     }
 
     public TypeContainer buildContainer(final Element element) {
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.services;
+
+import org.omega.typescript.processor.utils.BufferedFileObject;
+
+import javax.tools.FileObject;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Collects every generated file in memory and writes them as entries of a single zip archive once processing is over.
+ * Entries are sorted by name and share a fixed modification time, so the archive is byte identical for the same input
+ */
+public class ArchiveStorageStrategy extends BaseStorageStrategy {
+
+    // ---------------- Fields & Constants --------------
+
+    /**
+     * Earliest time a zip entry can hold without an extended timestamp field
+     */
+    private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 1, 1, 0, 0);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BaseStorageStrategy target;
+
+    private final String archiveFileName;
+
+    /**
+     * File content by entry name, sorted
+     */
+    private final Map<String, byte[]> entries = new ConcurrentSkipListMap<>();
+
+    private final Set<String> originatingClasses = ConcurrentHashMap.newKeySet();
+
+    // ------------------ Logic      --------------------
+
+    /**
+     * @param target writes the archive file
+     */
+    public ArchiveStorageStrategy(final ProcessingContext context, final FileNamingStrategy fileNamingStrategy,
+                                  final BaseStorageStrategy target, final String archiveFileName) {
+        super(context, fileNamingStrategy);
+        this.target = target;
+        this.archiveFileName = archiveFileName;
+    }
+
+    @Override
+    public FileObject getFile(final String filename, final Collection<String> originatingClasses) {
+        final String entryName = getOutputRelativeName(filename);
+        this.originatingClasses.addAll(originatingClasses);
+        return new BufferedFileObject(Paths.get(filename).toAbsolutePath().toUri(), entryName,
+                content -> {
+                    entries.put(entryName, content);
+                    return true;
+                });
+    }
+
+    /**
+     * Writes the archive in a single pass, files rendered again since replace their previous content
+     */
+    @Override
+    public void close() throws IOException {
+        if (entries.isEmpty()) {
+            target.close();
+            return;
+        }
+        final FileObject archive = target.getFile(archiveFileName, originatingClasses);
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(archive.openOutputStream(), BUFFER_SIZE))) {
+            for (final Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                final ZipEntry zipEntry = new ZipEntry(entry.getKey());
+                zipEntry.setTimeLocal(ENTRY_TIME);
+                zip.putNextEntry(zipEntry);
+                zip.write(entry.getValue());
+                zip.closeEntry();
+                statistics.fileWritten();
+            }
+        } catch (IOException ex) {
+            context.error("Failed to write archive " + archiveFileName + ": " + ex.getMessage());
+            throw ex;
+        }
+        entries.clear();
+        target.close();
+    }
+
+}
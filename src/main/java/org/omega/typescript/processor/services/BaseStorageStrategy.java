@@ -1,13 +1,20 @@
 package org.omega.typescript.processor.services;
 
+import org.omega.typescript.processor.metrics.FileEmitted;
 import org.omega.typescript.processor.model.Endpoint;
 import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.utils.BufferedFileObject;
 
 import javax.tools.FileObject;
 import java.io.File;
 import java.io.FileWriter;
+import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Created by kibork on 5/1/2020.
@@ -20,6 +27,22 @@ public abstract class BaseStorageStrategy implements StorageStrategy {
 
     protected final FileNamingStrategy fileNamingStrategy;
 
+    protected final StorageStatistics statistics = new StorageStatistics();
+
+    // ------------------ Properties --------------------
+
+    @Override
+    public StorageStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return true if the files are written straight to the local file system, outside of the javac Filer
+     */
+    public boolean writesLocalFiles() {
+        return false;
+    }
+
     // ------------------ Logic      --------------------
 
     public BaseStorageStrategy(final ProcessingContext context, final FileNamingStrategy fileNamingStrategy) {
@@ -29,18 +52,121 @@ public abstract class BaseStorageStrategy implements StorageStrategy {
 
     @Override
     public PrintWriter createWriter(final TypeDefinition definition) throws IOException {
-        return createWriter(fileNamingStrategy.getFullTypeFileName(definition));
+        return createWriter(fileNamingStrategy.getFullTypeFileName(definition), Collections.singletonList(definition.getFullName()));
     }
 
     @Override
     public PrintWriter createWriter(final Endpoint endpoint) throws IOException {
-        return createWriter(fileNamingStrategy.getGetFullFileName(endpoint));
+        return createWriter(fileNamingStrategy.getGetFullFileName(endpoint), Collections.singletonList(endpoint.getControllerClassName()));
     }
 
     @Override
     public PrintWriter createWriter(final String filename) throws IOException {
-        final FileObject targetFile = getFile(filename);
-        return new PrintWriter(targetFile.openWriter());
+        return createWriter(filename, Collections.emptyList());
+    }
+
+    @Override
+    public PrintWriter createWriter(final String filename, final Collection<String> originatingClasses) throws IOException {
+        return new PrintWriter(openWriter(filename, originatingClasses));
+    }
+
+    /**
+     * Creates the file on the calling thread, the returned writer may then be written and closed on another thread
+     */
+    protected Writer openWriter(final String filename, final Collection<String> originatingClasses) throws IOException {
+        final FileEmitted event = new FileEmitted();
+        event.begin();
+        final FileObject targetFile = getFile(filename, originatingClasses);
+        if ((!event.isEnabled()) && (!context.getOutputSizes().isEnabled())) {
+            return targetFile.openWriter();
+        }
+        return new RecordingWriter(targetFile, filename, List.copyOf(originatingClasses), event);
+    }
+
+    /**
+     * @return path of the file relative to the output folder
+     */
+    protected String getOutputRelativeName(final String filename) {
+        String relativeName = filename.replace('\\', '/');
+        final String outputFolder = context.getGenConfig().getOutputFolder();
+        if (relativeName.startsWith(outputFolder)) {
+            relativeName = relativeName.substring(outputFolder.length());
+        }
+        while (relativeName.startsWith("/")) {
+            relativeName = relativeName.substring(1);
+        }
+        return relativeName;
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    /**
+     * Counts the encoded size of the file, commits the {@link FileEmitted} event and records the size for the type graph
+     * once it's closed. Only used while either of those is enabled
+     */
+    private class RecordingWriter extends FilterWriter {
+
+        private final FileObject file;
+
+        private final String filename;
+
+        private final List<String> originatingClasses;
+
+        private final FileEmitted event;
+
+        private long bytes = 0;
+
+        private boolean closed = false;
+
+        RecordingWriter(final FileObject file, final String filename, final List<String> originatingClasses,
+                        final FileEmitted event) throws IOException {
+            super(file.openWriter());
+            this.file = file;
+            this.filename = filename;
+            this.originatingClasses = originatingClasses;
+            this.event = event;
+        }
+
+        @Override
+        public void write(final int c) throws IOException {
+            super.write(c);
+            bytes += utf8Length((char) c);
+        }
+
+        @Override
+        public void write(final char[] buffer, final int offset, final int length) throws IOException {
+            super.write(buffer, offset, length);
+            for (int i = offset; i < offset + length; ++i) {
+                bytes += utf8Length(buffer[i]);
+            }
+        }
+
+        @Override
+        public void write(final String str, final int offset, final int length) throws IOException {
+            super.write(str, offset, length);
+            for (int i = offset; i < offset + length; ++i) {
+                bytes += utf8Length(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            if (!closed) {
+                closed = true;
+                event.complete(filename, bytes, BufferedFileObject.isSkipped(file));
+                context.getOutputSizes().record(originatingClasses, bytes);
+            }
+        }
+
+        private int utf8Length(final char c) {
+            if (c < 0x80) {
+                return 1;
+            } else if ((c < 0x800) || Character.isSurrogate(c)) {
+                return 2;
+            }
+            return 3;
+        }
     }
 
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.services;
+
+import javax.tools.FileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects rendered files in memory so they can be produced from several threads,
+ * {@link #flush()} then hands them to the target strategy in file name order on the calling thread
+ */
+public class DeferredStorageStrategy extends BaseStorageStrategy {
+
+    // ---------------- Fields & Constants --------------
+
+    private final StorageStrategy target;
+
+    private final ConcurrentLinkedQueue<PendingFile> pendingFiles = new ConcurrentLinkedQueue<>();
+
+    // ------------------ Properties --------------------
+
+    @Override
+    public StorageStatistics getStatistics() {
+        return target.getStatistics();
+    }
+
+    // ------------------ Logic      --------------------
+
+    public DeferredStorageStrategy(final ProcessingContext context, final FileNamingStrategy fileNamingStrategy,
+                                   final StorageStrategy target) {
+        super(context, fileNamingStrategy);
+        this.target = target;
+    }
+
+    @Override
+    public PrintWriter createWriter(final String filename, final Collection<String> originatingClasses) {
+        final List<String> origins = List.copyOf(originatingClasses);
+        final StringWriter content = new StringWriter(4 * 1024);
+        return new PrintWriter(content) {
+            private boolean closed = false;
+
+            @Override
+            public void close() {
+                super.close();
+                if (!closed) {
+                    closed = true;
+                    pendingFiles.add(new PendingFile(filename, origins, content.toString()));
+                }
+            }
+        };
+    }
+
+    /**
+     * Files copied directly are not rendered concurrently and go straight to the target strategy
+     */
+    @Override
+    public FileObject getFile(final String filename, final Collection<String> originatingClasses) {
+        return target.getFile(filename, originatingClasses);
+    }
+
+    /**
+     * Writes every pending file through the target strategy, must be called on the compiler thread
+     */
+    public void flush() throws IOException {
+        final List<PendingFile> files = new ArrayList<>(pendingFiles);
+        pendingFiles.clear();
+        files.sort(Comparator.comparing(PendingFile::filename));
+        for (final PendingFile file : files) {
+            try (Writer writer = target.createWriter(file.filename(), file.originatingClasses())) {
+                writer.write(file.content());
+            }
+        }
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    private record PendingFile(String filename, List<String> originatingClasses, String content) {
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Decides whether a class is excluded by the tsg.exclude-classes-regex configuration.
+ * Plain class names and the common <code>package\..+</code> form are answered with hash lookups,
+ * all the other expressions are combined into a single alternation. Decisions are memoized per class name.
+ */
+public class ExclusionMatcher {
+
+    // ---------------- Fields & Constants --------------
+
+    private static final Pattern LITERAL_NAME = Pattern.compile("(?:[\\w]|\\\\\\.)+");
+
+    private static final Pattern PACKAGE_PREFIX = Pattern.compile("((?:[\\w]|\\\\\\.)+)\\\\\\.\\.\\+");
+
+    private static final Pattern GROUP_REFERENCE = Pattern.compile("\\\\\\d|\\\\k<|\\(\\?<[a-zA-Z]");
+
+    private final Set<String> excludedNames = new HashSet<>();
+
+    /**
+     * Package prefixes including the trailing dot, a class is excluded when at least one more character follows
+     */
+    private final Set<String> excludedPrefixes = new HashSet<>();
+
+    private final Pattern combinedPattern;
+
+    /**
+     * Expressions with flags or group references, those can't be merged into the alternation
+     */
+    private final List<Pattern> separatePatterns = new ArrayList<>();
+
+    private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    // ------------------ Properties --------------------
+
+    /**
+     * @return number of lookups answered from the memoized decisions
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of lookups that had to be evaluated against the expressions
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // ------------------ Logic      --------------------
+
+    public ExclusionMatcher(final Collection<Pattern> patterns) {
+        final List<String> combined = new ArrayList<>();
+        for (final Pattern pattern : patterns) {
+            final String regex = pattern.pattern();
+            final Matcher prefixMatcher = PACKAGE_PREFIX.matcher(regex);
+            if (pattern.flags() != 0 || GROUP_REFERENCE.matcher(regex).find()) {
+                separatePatterns.add(pattern);
+            } else if (LITERAL_NAME.matcher(regex).matches()) {
+                excludedNames.add(unescape(regex));
+            } else if (prefixMatcher.matches()) {
+                excludedPrefixes.add(unescape(prefixMatcher.group(1)) + ".");
+            } else {
+                combined.add(regex);
+            }
+        }
+        combinedPattern = combined.isEmpty() ? null :
+                Pattern.compile(combined.stream().map(regex -> "(?:" + regex + ")").collect(Collectors.joining("|")));
+    }
+
+    public boolean isExcluded(final String qualifiedName) {
+        final Boolean decision = decisions.get(qualifiedName);
+        if (decision != null) {
+            hits.incrementAndGet();
+            return decision;
+        }
+        misses.incrementAndGet();
+        final boolean excluded = evaluate(qualifiedName);
+        decisions.put(qualifiedName, excluded);
+        return excluded;
+    }
+
+    private boolean evaluate(final String qualifiedName) {
+        if (excludedNames.contains(qualifiedName)) {
+            return true;
+        }
+        if (!excludedPrefixes.isEmpty()) {
+            int dot = qualifiedName.indexOf('.');
+            while (dot >= 0 && dot < qualifiedName.length() - 1) {
+                if (excludedPrefixes.contains(qualifiedName.substring(0, dot + 1))) {
+                    return true;
+                }
+                dot = qualifiedName.indexOf('.', dot + 1);
+            }
+        }
+        if (combinedPattern != null && combinedPattern.matcher(qualifiedName).matches()) {
+            return true;
+        }
+        return separatePatterns.stream().anyMatch(p -> p.matcher(qualifiedName).matches());
+    }
+
+    private static String unescape(final String regex) {
+        return regex.replace("\\.", ".");
+    }
+
+    @Override
+    public String toString() {
+        return "exclusion lookups: " + getHits() + " cached, " + getMisses() + " evaluated";
+    }
+}
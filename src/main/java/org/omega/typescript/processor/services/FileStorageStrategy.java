@@ -28,6 +28,7 @@ import javax.tools.FileObject;
 import javax.tools.JavaFileObject;
 import javax.tools.SimpleJavaFileObject;
 import java.io.File;
+import java.util.Collection;
 
 /**
  * Created by kibork on 5/2/2018.
@@ -40,6 +41,11 @@ public class FileStorageStrategy extends BaseStorageStrategy {
 
     // ------------------ Properties --------------------
 
+    @Override
+    public boolean writesLocalFiles() {
+        return true;
+    }
+
     // ------------------ Logic      --------------------
 
 
@@ -48,7 +54,7 @@ public class FileStorageStrategy extends BaseStorageStrategy {
     }
 
     @Override
-    public FileObject getFile(final String filename) {
+    public FileObject getFile(final String filename, final Collection<String> originatingClasses) {
         final File targetFile = new File(filename).getAbsoluteFile();
         if (targetFile.exists()) {
             final boolean result = targetFile.delete();
@@ -61,6 +67,7 @@ public class FileStorageStrategy extends BaseStorageStrategy {
                 context.error("Failed to create containing folder " + targetFile.getParentFile());
             }
         }
+        statistics.fileWritten();
         return new LocalFileObject(targetFile);
     }
 
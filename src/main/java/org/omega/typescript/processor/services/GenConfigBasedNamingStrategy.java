@@ -24,6 +24,8 @@ package org.omega.typescript.processor.services;
 
 import lombok.Data;
 import org.omega.typescript.processor.GenConfig;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Phase;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.PhaseTimer;
 import org.omega.typescript.processor.model.Endpoint;
 import org.omega.typescript.processor.model.TypeContainer;
 import org.omega.typescript.processor.model.TypeDefinition;
@@ -31,10 +33,9 @@ import org.omega.typescript.processor.utils.StringUtils;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Created by kibork on 5/16/2018.
@@ -49,11 +50,38 @@ public class GenConfigBasedNamingStrategy implements FileNamingStrategy {
         final String override;
     }
 
+    /**
+     * Node of the package segment trie of the path overrides, the deepest node with an override wins
+     */
+    private static class PackageNode {
+        final Map<String, PackageNode> children = new HashMap<>();
+        PathOverride override;
+    }
+
     private final ProcessingContext context;
 
     private final GenConfig genConfig;
 
-    private List<PathOverride> overrides;
+    private PackageNode overrides;
+
+    private String outputFolder;
+
+    private OutputLayout layout;
+
+    /**
+     * Target folder by package name
+     */
+    private final Map<String, String> targetFolders = new ConcurrentHashMap<>();
+
+    /**
+     * Folder of the shared type file by package name, only used by the per module layout
+     */
+    private final Map<String, String> moduleFolders = new ConcurrentHashMap<>();
+
+    /**
+     * Relative path by source folder and target folder
+     */
+    private final Map<String, Map<String, String>> relativePaths = new ConcurrentHashMap<>();
 
     // ------------------ Logic      --------------------
 
@@ -66,24 +94,88 @@ public class GenConfigBasedNamingStrategy implements FileNamingStrategy {
 
     private void init() {
         if (overrides == null) {
-            overrides = genConfig.getPathOverrides().entrySet().stream()
-                    .map(e -> new PathOverride(StringUtils.endWith(e.getKey(), "."), StringUtils.endWith(e.getValue(), "/")))
-                    .sorted(Comparator.<PathOverride, Integer>comparing(pathOverride -> pathOverride.getPath().length()).reversed())
-                    .toList();
+            overrides = new PackageNode();
+            genConfig.getPathOverrides().forEach((packageName, override) -> {
+                final PathOverride pathOverride = new PathOverride(StringUtils.endWith(packageName, "."), StringUtils.endWith(override, "/"));
+                PackageNode node = overrides;
+                for (final String segment : splitPackage(pathOverride.getPath().substring(0, pathOverride.getPath().length() - 1))) {
+                    node = node.children.computeIfAbsent(segment, s -> new PackageNode());
+                }
+                node.override = pathOverride;
+            });
+            outputFolder = StringUtils.endWith(genConfig.getOutputFolder(), "/");
+            layout = genConfig.getOutputLayout();
         }
     }
 
+    private static String[] splitPackage(final String packageName) {
+        return packageName.split("\\.", -1);
+    }
+
     private String getTargetFolder(final String containerPackage) {
-        final Optional<PathOverride> override = overrides.stream()
-                .filter(p -> StringUtils.endWith(containerPackage, ".").startsWith(p.getPath()))
-                .findFirst();
+        final String targetFolder = targetFolders.get(containerPackage);
+        if (targetFolder != null) {
+            return targetFolder;
+        }
+        try (PhaseTimer ignored = context.getMetrics().start(Phase.NAMING)) {
+            return targetFolders.computeIfAbsent(containerPackage, this::resolveTargetFolder);
+        }
+    }
+
+    private PathOverride findOverride(final String containerPackage) {
+        PathOverride override = null;
+        PackageNode node = overrides;
+        for (final String segment : splitPackage(containerPackage)) {
+            node = node.children.get(segment);
+            if (node == null) {
+                break;
+            }
+            if (node.override != null) {
+                override = node.override;
+            }
+        }
+        return override;
+    }
 
-        String targetDir = containerPackage.replace(".", "/");
-        if (override.isPresent()) {
-            targetDir = addPaths(override.get().getOverride(), targetDir.substring(override.get().getPath().length() - 1));
+    private String resolveTargetFolder(final String containerPackage) {
+        final PathOverride override = findOverride(containerPackage);
+        String targetDir = containerPackage.replace('.', '/');
+        if (override != null) {
+            targetDir = addPaths(override.getOverride(), targetDir.substring(override.getPath().length() - 1));
         }
-        final String result = StringUtils.endWith(genConfig.getOutputFolder(), "/") + StringUtils.endWith(targetDir, "/");
-        return result.replaceAll("//", "/");
+        final String result = outputFolder + StringUtils.endWith(targetDir, "/");
+        return result.replace("//", "/");
+    }
+
+    private String getModuleFolder(final String containerPackage) {
+        final String moduleFolder = moduleFolders.get(containerPackage);
+        if (moduleFolder != null) {
+            return moduleFolder;
+        }
+        try (PhaseTimer ignored = context.getMetrics().start(Phase.NAMING)) {
+            return moduleFolders.computeIfAbsent(containerPackage, this::resolveModuleFolder);
+        }
+    }
+
+    private String resolveModuleFolder(final String containerPackage) {
+        final PathOverride override = findOverride(containerPackage);
+        final String result = (override != null) ? outputFolder + override.getOverride() : outputFolder;
+        return result.replace("//", "/");
+    }
+
+    /**
+     * @return folder of the file the type is emitted to, depends on the output layout
+     */
+    private String getTypeFolder(final TypeDefinition definition) {
+        final String containerPackage = definition.getContainer().getPackageName();
+        return (layout == OutputLayout.PER_MODULE) ? getModuleFolder(containerPackage) : getTargetFolder(containerPackage);
+    }
+
+    private String getTypeFileName(final TypeDefinition definition) {
+        if (layout == OutputLayout.PER_TYPE) {
+            return getSimpleName(definition.getContainer(), definition.getShortName());
+        }
+        return genConfig.getBundleFileName() + genConfig.getGeneratedFilesSuffix();
     }
 
     private String addPaths(String base, String subPath) {
@@ -94,10 +186,6 @@ public class GenConfigBasedNamingStrategy implements FileNamingStrategy {
         return base + subPath;
     }
 
-    private String getFullName(final String containerPackage, final String fileName) {
-        return getTargetFolder(containerPackage) + fileName;
-    }
-
     private String getSimpleName(final TypeContainer typeContainer, final String elementName) {
         final StringBuilder prefix = new StringBuilder();
         TypeContainer container = typeContainer;
@@ -109,17 +197,28 @@ public class GenConfigBasedNamingStrategy implements FileNamingStrategy {
     }
 
     private String getTypeFileBase(final TypeDefinition definition){
-        return getFullName(definition.getContainer().getPackageName(), getSimpleName(definition.getContainer(), definition.getShortName()));
+        return getTypeFolder(definition) + getTypeFileName(definition);
     }
 
     private String getRelativeFileName(final TypeDefinition to, final String fromPathStr, final String toPathStr) {
         final String path = getRelativePath(fromPathStr, toPathStr);
 
-        final String fileName = getSimpleName(to.getContainer(), to.getShortName());
+        final String fileName = getTypeFileName(to);
         return path + fileName;
     }
 
     private String getRelativePath(String fromPathStr, String toPathStr) {
+        final Map<String, String> fromPaths = relativePaths.computeIfAbsent(fromPathStr, from -> new ConcurrentHashMap<>());
+        final String relativePath = fromPaths.get(toPathStr);
+        if (relativePath != null) {
+            return relativePath;
+        }
+        try (PhaseTimer ignored = context.getMetrics().start(Phase.NAMING)) {
+            return fromPaths.computeIfAbsent(toPathStr, to -> resolveRelativePath(fromPathStr, to));
+        }
+    }
+
+    private String resolveRelativePath(String fromPathStr, String toPathStr) {
         final Path fromPath = Paths.get(fromPathStr);
         final Path toPath = Paths.get(toPathStr);
         final String relativePath = StringUtils.endWith(
@@ -160,7 +259,7 @@ public class GenConfigBasedNamingStrategy implements FileNamingStrategy {
 
     @Override
     public String getRelativeFileName(final Endpoint endpoint, final TypeDefinition to) {
-        final String toTargetFolder = getTargetFolder(to.getContainer().getPackageName());
+        final String toTargetFolder = getTypeFolder(to);
         return getRelativeFileName(to,
                 getTargetFolder(endpoint.getContainer().getPackageName()),
                 toTargetFolder
@@ -178,8 +277,8 @@ public class GenConfigBasedNamingStrategy implements FileNamingStrategy {
 
     @Override
     public String getRelativeFileName(final TypeDefinition from, final TypeDefinition to) {
-        final String fromPathStr = getTargetFolder(from.getContainer().getPackageName());
-        final String toPathStr = getTargetFolder(to.getContainer().getPackageName());
+        final String fromPathStr = getTypeFolder(from);
+        final String toPathStr = getTypeFolder(to);
         return getRelativeFileName(to, fromPathStr, toPathStr);
     }
 
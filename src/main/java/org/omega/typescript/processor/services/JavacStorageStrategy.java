@@ -2,10 +2,14 @@ package org.omega.typescript.processor.services;
 
 import org.omega.typescript.processor.utils.LogUtil;
 
+import javax.lang.model.element.Element;
+import javax.lang.model.util.Elements;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 import java.io.File;
 import java.net.URI;
+import java.util.Collection;
+import java.util.Objects;
 
 /**
  * Created by kibork on 5/1/2020.
@@ -22,10 +26,10 @@ public class JavacStorageStrategy extends BaseStorageStrategy {
     }
 
     @Override
-    public FileObject getFile(final String filename) {
+    public FileObject getFile(final String filename, final Collection<String> originatingClasses) {
         try {
             final FileObject fileObject = context.getProcessingEnv().getFiler()
-                    .createResource(StandardLocation.SOURCE_OUTPUT, "", filename);
+                    .createResource(StandardLocation.SOURCE_OUTPUT, "", filename, getOriginatingElements(originatingClasses));
             final URI uri = fileObject.toUri();
             if (uri.getScheme().equals("file")) {
                 final File resultFile = new File(uri);
@@ -36,10 +40,19 @@ public class JavacStorageStrategy extends BaseStorageStrategy {
                     }
                 }
             }
+            statistics.fileWritten();
             return fileObject;
         } catch (Exception e) {
             throw new RuntimeException("Unable to create file for " + filename, e);
         }
     }
 
+    private Element[] getOriginatingElements(final Collection<String> originatingClasses) {
+        final Elements elements = context.getProcessingEnv().getElementUtils();
+        return originatingClasses.stream()
+                .map(elements::getTypeElement)
+                .filter(Objects::nonNull)
+                .toArray(Element[]::new);
+    }
+
 }
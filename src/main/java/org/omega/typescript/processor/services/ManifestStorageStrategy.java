@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.services;
+
+import org.omega.typescript.api.TypeScriptEndpoint;
+import org.omega.typescript.processor.utils.BufferedFileObject;
+import org.omega.typescript.processor.utils.IOUtils;
+
+import javax.lang.model.element.TypeElement;
+import javax.tools.FileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the SHA-256 of every generated file in {@value #MANIFEST_FILE_NAME}, in the output folder and in the format
+ * of sha256sum, so copy tasks can sync only the changed files. When the target writes local files the manifest of the
+ * previous build is used to leave unchanged files untouched and to delete the files nothing generates anymore.
+ * <p>
+ * The originating classes of every file are kept next to the manifest in {@value #ORIGINS_FILE_NAME}. A compilation
+ * of only some of the sources (IDE builds, javac on a subset) doesn't process every endpoint; the files it doesn't
+ * write are then only deleted when all of their originating classes are gone and are kept in the manifest otherwise
+ */
+public class ManifestStorageStrategy extends BaseStorageStrategy {
+
+    // ---------------- Fields & Constants --------------
+
+    public static final String MANIFEST_FILE_NAME = "tsg-manifest.sha256";
+
+    public static final String ORIGINS_FILE_NAME = "tsg-manifest.origins";
+
+    private final BaseStorageStrategy target;
+
+    private final String manifestFileName;
+
+    private final String originsFileName;
+
+    /**
+     * Content hash by output relative file name, as recorded by the previous build. Empty unless the target writes local files
+     */
+    private final Map<String, String> previousFiles;
+
+    /**
+     * Originating classes by output relative file name, as recorded by the previous build
+     */
+    private final Map<String, Set<String>> previousOrigins;
+
+    private final Map<String, String> currentFiles = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> currentOrigins = new ConcurrentHashMap<>();
+
+    private final Set<String> originatingClasses = ConcurrentHashMap.newKeySet();
+
+    // ------------------ Properties --------------------
+
+    @Override
+    public StorageStatistics getStatistics() {
+        return target.getStatistics();
+    }
+
+    @Override
+    public boolean writesLocalFiles() {
+        return target.writesLocalFiles();
+    }
+
+    // ------------------ Logic      --------------------
+
+    /**
+     * @param target writes the changed files and the manifest
+     */
+    public ManifestStorageStrategy(final ProcessingContext context, final FileNamingStrategy fileNamingStrategy,
+                                   final BaseStorageStrategy target, final String manifestFileName) {
+        super(context, fileNamingStrategy);
+        this.target = target;
+        this.manifestFileName = manifestFileName;
+        this.originsFileName = Paths.get(manifestFileName).resolveSibling(ORIGINS_FILE_NAME).toString().replace('\\', '/');
+        this.previousFiles = target.writesLocalFiles() ? readManifest(Paths.get(manifestFileName)) : Map.of();
+        this.previousOrigins = target.writesLocalFiles() ? readOrigins(Paths.get(originsFileName)) : Map.of();
+    }
+
+    private Map<String, String> readManifest(final Path manifestFile) {
+        final Map<String, String> files = new HashMap<>();
+        if (!Files.isRegularFile(manifestFile)) {
+            return files;
+        }
+        try {
+            for (final String line : Files.readAllLines(manifestFile, StandardCharsets.UTF_8)) {
+                final int separator = line.indexOf("  ");
+                if (separator > 0) {
+                    files.put(line.substring(separator + 2), line.substring(0, separator));
+                }
+            }
+        } catch (IOException ex) {
+            context.warning("Failed to read manifest " + manifestFile + ", every file is written again: " + ex.getMessage());
+            files.clear();
+        }
+        return files;
+    }
+
+    private Map<String, Set<String>> readOrigins(final Path originsFile) {
+        final Map<String, Set<String>> origins = new HashMap<>();
+        if (!Files.isRegularFile(originsFile)) {
+            return origins;
+        }
+        try {
+            for (final String line : Files.readAllLines(originsFile, StandardCharsets.UTF_8)) {
+                final int separator = line.indexOf('\t');
+                if (separator > 0) {
+                    origins.put(line.substring(0, separator), new TreeSet<>(Arrays.asList(line.substring(separator + 1).split(","))));
+                }
+            }
+        } catch (IOException ex) {
+            context.warning("Failed to read " + originsFile + ", files of removed classes are kept: " + ex.getMessage());
+            origins.clear();
+        }
+        return origins;
+    }
+
+    @Override
+    public FileObject getFile(final String filename, final Collection<String> originatingClasses) {
+        final Path targetFile = Paths.get(filename).toAbsolutePath();
+        return new BufferedFileObject(targetFile.toUri(), targetFile.getFileName().toString(),
+                content -> store(filename, originatingClasses, content));
+    }
+
+    private boolean store(final String filename, final Collection<String> originatingClasses, final byte[] content) throws IOException {
+        final String relativeName = getOutputRelativeName(filename);
+        final String hash = HexFormat.of().formatHex(IOUtils.sha256(content));
+        currentFiles.put(relativeName, hash);
+        if (!originatingClasses.isEmpty()) {
+            currentOrigins.put(relativeName, new TreeSet<>(originatingClasses));
+        }
+        this.originatingClasses.addAll(originatingClasses);
+
+        if (hash.equals(previousFiles.get(relativeName)) && hasSize(Paths.get(filename), content.length)) {
+            target.getStatistics().fileSkipped();
+            return false;
+        }
+        //The content was rendered through a UTF-8 writer, decoding it is lossless
+        final FileObject targetFile = target.getFile(filename, originatingClasses);
+        try (Writer writer = targetFile.openWriter()) {
+            writer.write(new String(content, StandardCharsets.UTF_8));
+        }
+        return !BufferedFileObject.isSkipped(targetFile);
+    }
+
+    private boolean hasSize(final Path file, final long size) {
+        try {
+            return Files.isRegularFile(file) && (Files.size(file) == size);
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Deletes the stale files, writes the manifest if the file list or any content changed and closes the target
+     */
+    @Override
+    public void close() throws IOException {
+        deleteStaleFiles();
+        final Map<String, String> files = new TreeMap<>(currentFiles);
+        if (!files.equals(previousFiles)) {
+            try (Writer writer = target.getFile(manifestFileName, originatingClasses).openWriter()) {
+                for (final Map.Entry<String, String> file : files.entrySet()) {
+                    writer.write(file.getValue() + "  " + file.getKey() + "\n");
+                }
+            }
+        }
+        final Map<String, Set<String>> origins = new TreeMap<>(currentOrigins);
+        if (target.writesLocalFiles() && (!origins.equals(previousOrigins))) {
+            try (Writer writer = target.getFile(originsFileName, originatingClasses).openWriter()) {
+                for (final Map.Entry<String, Set<String>> file : origins.entrySet()) {
+                    writer.write(file.getKey() + "\t" + String.join(",", file.getValue()) + "\n");
+                }
+            }
+        }
+        target.close();
+    }
+
+    /**
+     * Deletes the previous files this build didn't write. Unless every endpoint of the previous build was processed,
+     * only the files whose originating classes are all gone are deleted, the others are carried over to the manifest
+     */
+    private void deleteStaleFiles() {
+        final boolean allEndpointsProcessed = previousOrigins.values().stream()
+                .flatMap(Set::stream)
+                .distinct()
+                .filter(className -> !originatingClasses.contains(className))
+                .map(this::findType)
+                .noneMatch(type -> (type != null) && (type.getAnnotation(TypeScriptEndpoint.class) != null));
+        final Path outputFolder = Paths.get(context.getGenConfig().getOutputFolder()).toAbsolutePath().normalize();
+        previousFiles.keySet().stream()
+                .filter(relativeName -> !currentFiles.containsKey(relativeName))
+                .sorted()
+                .forEach(relativeName -> {
+                    final Set<String> origins = previousOrigins.getOrDefault(relativeName, Set.of());
+                    if ((!allEndpointsProcessed) && (origins.isEmpty() || origins.stream().anyMatch(className -> findType(className) != null))) {
+                        currentFiles.put(relativeName, previousFiles.get(relativeName));
+                        if (!origins.isEmpty()) {
+                            currentOrigins.put(relativeName, origins);
+                        }
+                        return;
+                    }
+                    final Path staleFile = outputFolder.resolve(relativeName).normalize();
+                    if (!staleFile.startsWith(outputFolder)) {
+                        context.warning("Manifest entry " + relativeName + " is outside of the output folder and was not deleted");
+                        return;
+                    }
+                    try {
+                        if (Files.deleteIfExists(staleFile)) {
+                            target.getStatistics().fileDeleted();
+                        }
+                        deleteEmptyFolders(staleFile.getParent(), outputFolder);
+                    } catch (IOException ex) {
+                        context.warning("Failed to delete stale file " + staleFile + ": " + ex.getMessage());
+                    }
+                });
+    }
+
+    private TypeElement findType(final String className) {
+        return context.getProcessingEnv().getElementUtils().getTypeElement(className);
+    }
+
+    private void deleteEmptyFolders(Path folder, final Path outputFolder) throws IOException {
+        while ((folder != null) && folder.startsWith(outputFolder) && (!folder.equals(outputFolder))) {
+            try {
+                if (!Files.deleteIfExists(folder)) {
+                    return;
+                }
+            } catch (DirectoryNotEmptyException ex) {
+                return;
+            }
+            folder = folder.getParent();
+        }
+    }
+
+}
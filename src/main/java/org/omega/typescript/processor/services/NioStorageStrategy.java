@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.services;
+
+import org.omega.typescript.processor.utils.LocalFileObject;
+
+import javax.tools.FileObject;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Writes every file as UTF-8 into a hidden temporary file next to the target and atomically moves it in place once
+ * complete, so file watchers never see a half written file. Folders created once are remembered for the session
+ * and aren't checked on the file system again
+ */
+public class NioStorageStrategy extends BaseStorageStrategy {
+
+    // ---------------- Fields & Constants --------------
+
+    private static final String TEMP_FILE_SUFFIX = ".tsg-tmp";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Set<Path> knownFolders = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Direct buffers are expensive to allocate, released buffers are reused by the next file
+     */
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+    // ------------------ Logic      --------------------
+
+    public NioStorageStrategy(final ProcessingContext context, final FileNamingStrategy fileNamingStrategy) {
+        super(context, fileNamingStrategy);
+    }
+
+    @Override
+    public boolean writesLocalFiles() {
+        return true;
+    }
+
+    @Override
+    public FileObject getFile(final String filename, final Collection<String> originatingClasses) {
+        final Path targetFile = Paths.get(filename).toAbsolutePath();
+        return new LocalFileObject(targetFile.toFile()) {
+            @Override
+            public OutputStream openOutputStream() throws IOException {
+                return new AtomicFileOutputStream(targetFile);
+            }
+
+            @Override
+            public Writer openWriter() throws IOException {
+                return new AtomicFileWriter(targetFile);
+            }
+        };
+    }
+
+    private void ensureFolder(final Path folder) throws IOException {
+        if ((folder != null) && (!knownFolders.contains(folder))) {
+            Files.createDirectories(folder);
+            knownFolders.add(folder);
+        }
+    }
+
+    private ByteBuffer acquireBuffer() {
+        final ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    /**
+     * Collects the bytes in a pooled direct buffer and writes them to the temporary file,
+     * which is moved in place on close
+     */
+    private class AtomicFileOutputStream extends OutputStream {
+
+        private final Path targetFile;
+
+        private final Path tempFile;
+
+        private final FileChannel channel;
+
+        private ByteBuffer bytes;
+
+        private boolean closed = false;
+
+        AtomicFileOutputStream(final Path targetFile) throws IOException {
+            this.targetFile = targetFile;
+            this.tempFile = targetFile.resolveSibling("." + targetFile.getFileName() + TEMP_FILE_SUFFIX);
+            try {
+                this.channel = openChannel();
+            } catch (IOException ex) {
+                context.error("Failed to create file " + targetFile + ": " + ex.getMessage());
+                throw ex;
+            }
+            this.bytes = acquireBuffer();
+        }
+
+        private FileChannel openChannel() throws IOException {
+            final Path folder = targetFile.getParent();
+            ensureFolder(folder);
+            try {
+                return FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            } catch (NoSuchFileException ex) {
+                //The folder was removed since it was created, e.g. by a clean running alongside
+                knownFolders.remove(folder);
+                ensureFolder(folder);
+                return FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            }
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            if (!bytes.hasRemaining()) {
+                drain();
+            }
+            bytes.put((byte) value);
+        }
+
+        @Override
+        public void write(final byte[] buffer, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!bytes.hasRemaining()) {
+                    drain();
+                }
+                final int count = Math.min(length, bytes.remaining());
+                bytes.put(buffer, offset, count);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        @Override
+        public void flush() {
+            //The content becomes visible only once the file is moved in place on close
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                drain();
+                channel.close();
+                move();
+                statistics.fileWritten();
+            } catch (IOException ex) {
+                discard(ex);
+                throw ex;
+            } finally {
+                release();
+            }
+        }
+
+        /**
+         * Drops the temporary file after a failure while producing the content
+         */
+        void abort(final IOException cause) throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                discard(cause);
+            } finally {
+                release();
+            }
+        }
+
+        private void discard(final IOException cause) throws IOException {
+            channel.close();
+            Files.deleteIfExists(tempFile);
+            context.error("Failed to write file " + targetFile + ": " + cause.getMessage());
+        }
+
+        private void release() {
+            buffers.offer(bytes);
+            bytes = null;
+        }
+
+        private void drain() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+        }
+
+        private void move() throws IOException {
+            try {
+                Files.move(tempFile, targetFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    /**
+     * Encodes the characters straight into the buffer of the underlying {@link AtomicFileOutputStream}
+     */
+    private class AtomicFileWriter extends Writer {
+
+        private final AtomicFileOutputStream out;
+
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        /**
+         * Staging buffer, keeps a trailing high surrogate until its pair is written
+         */
+        private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE / 4);
+
+        private boolean closed = false;
+
+        AtomicFileWriter(final Path targetFile) throws IOException {
+            this.out = new AtomicFileOutputStream(targetFile);
+        }
+
+        @Override
+        public void write(final char[] buffer, int offset, int length) throws IOException {
+            while (length > 0) {
+                final int count = Math.min(length, chars.remaining());
+                chars.put(buffer, offset, count);
+                offset += count;
+                length -= count;
+                if (!chars.hasRemaining()) {
+                    encode(false);
+                }
+            }
+        }
+
+        @Override
+        public void write(final String str, int offset, int length) throws IOException {
+            while (length > 0) {
+                final int count = Math.min(length, chars.remaining());
+                chars.put(str, offset, offset + count);
+                offset += count;
+                length -= count;
+                if (!chars.hasRemaining()) {
+                    encode(false);
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            //The content becomes visible only once the file is moved in place on close
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                encode(true);
+                CoderResult result;
+                do {
+                    result = encoder.flush(out.bytes);
+                    out.drain();
+                } while (result.isOverflow());
+            } catch (IOException ex) {
+                out.abort(ex);
+                throw ex;
+            }
+            out.close();
+        }
+
+        private void encode(final boolean endOfInput) throws IOException {
+            chars.flip();
+            CoderResult result;
+            do {
+                result = encoder.encode(chars, out.bytes, endOfInput);
+                if (result.isOverflow()) {
+                    out.drain();
+                }
+            } while (result.isOverflow());
+            chars.compact();
+            if (endOfInput) {
+                out.drain();
+            }
+        }
+    }
+
+}
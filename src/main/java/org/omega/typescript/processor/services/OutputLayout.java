@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+
+package org.omega.typescript.processor.services;
+
+import java.util.Optional;
+
+/**
+ * How the generated types are grouped into files, endpoints and modules always get their own files
+ */
+public enum OutputLayout {
+
+    /**
+     * Every type in its own file
+     */
+    PER_TYPE,
+
+    /**
+     * Types of a package share a file in the package folder
+     */
+    PER_PACKAGE,
+
+    /**
+     * Types share a file per path override folder, packages without an override share a file in the output folder
+     */
+    PER_MODULE;
+
+    public static Optional<OutputLayout> fromValue(final String value) {
+        for (final OutputLayout layout : values()) {
+            if (layout.name().replace('_', '-').equalsIgnoreCase(value)) {
+                return Optional.of(layout);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -23,12 +23,20 @@
 package org.omega.typescript.processor.services;
 
 import org.omega.typescript.processor.GenConfig;
+import org.omega.typescript.processor.cache.ModelCache;
+import org.omega.typescript.processor.metrics.OutputSizes;
+import org.omega.typescript.processor.metrics.ProcessingMetrics;
+import org.omega.typescript.processor.metrics.TypeGraphWriter;
 import org.omega.typescript.processor.model.EndpointContainer;
 import org.omega.typescript.processor.model.TypeOracle;
+import org.omega.typescript.processor.utils.AnnotationCache;
 import org.omega.typescript.processor.utils.LogUtil;
+import org.omega.typescript.processor.utils.TypeMemberIndex;
 
 import javax.annotation.processing.ProcessingEnvironment;
-import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.TypeElement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Created by kibork on 1/22/2018.
@@ -39,8 +47,6 @@ public class ProcessingContext {
 
     // ------------------ Fields     --------------------
 
-    private final RoundEnvironment roundEnv;
-
     private final ProcessingEnvironment processingEnv;
 
     private final TypeOracle typeOracle;
@@ -49,12 +55,20 @@ public class ProcessingContext {
 
     private final GenConfig genConfig;
 
+    private final ModelCache modelCache;
 
-    // ------------------ Properties --------------------
+    private final AnnotationCache annotationCache;
 
-    public RoundEnvironment getRoundEnv() {
-        return roundEnv;
-    }
+    private final ProcessingMetrics metrics;
+
+    private final OutputSizes outputSizes;
+
+    private final TypeBudget typeBudget;
+
+    private final Map<TypeElement, TypeMemberIndex> memberIndexes = new ConcurrentHashMap<>();
+
+
+    // ------------------ Properties --------------------
 
     public ProcessingEnvironment getProcessingEnv() {
         return processingEnv;
@@ -72,17 +86,56 @@ public class ProcessingContext {
         return genConfig;
     }
 
+    public ModelCache getModelCache() {
+        return modelCache;
+    }
+
+    public AnnotationCache getAnnotationCache() {
+        return annotationCache;
+    }
+
+    public ProcessingMetrics getMetrics() {
+        return metrics;
+    }
+
+    public OutputSizes getOutputSizes() {
+        return outputSizes;
+    }
+
+    public TypeBudget getTypeBudget() {
+        return typeBudget;
+    }
+
+    /**
+     * @return members of the type, indexed once per processing session
+     */
+    public TypeMemberIndex getMemberIndex(final TypeElement typeElement) {
+        return memberIndexes.computeIfAbsent(typeElement,
+                type -> new TypeMemberIndex(type, processingEnv.getElementUtils()));
+    }
+
     // ------------------ Logic      --------------------
 
-    public ProcessingContext(final RoundEnvironment roundEnv,
-                             final ProcessingEnvironment processingEnv,
+    public ProcessingContext(final ProcessingEnvironment processingEnv,
                              final TypeOracle typeOracle,
-                             final EndpointContainer endpointContainer) {
-        this.roundEnv = roundEnv;
+                             final EndpointContainer endpointContainer,
+                             final ModelCache modelCache) {
         this.processingEnv = processingEnv;
         this.typeOracle = typeOracle;
         this.endpointContainer = endpointContainer;
+        this.modelCache = modelCache;
+        this.metrics = new ProcessingMetrics(Boolean.parseBoolean(processingEnv.getOptions().get(ProcessingMetrics.OPTION)));
+        this.outputSizes = new OutputSizes(Boolean.parseBoolean(processingEnv.getOptions().get(TypeGraphWriter.OPTION)));
         this.genConfig = new GenConfig(this);
+        this.annotationCache = new AnnotationCache(this);
+        this.typeBudget = new TypeBudget(this);
+    }
+
+    /**
+     * Gradle wraps the javac Filer to record the originating elements of generated files
+     */
+    public boolean isGradleIncrementalBuild() {
+        return processingEnv.getFiler().getClass().getName().startsWith("org.gradle.");
     }
 
     public void debug(final String msg) {
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.services;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the files produced by a storage strategy
+ */
+public class StorageStatistics {
+
+    // ---------------- Fields & Constants --------------
+
+    private final AtomicLong writtenFiles = new AtomicLong();
+
+    private final AtomicLong skippedFiles = new AtomicLong();
+
+    private final AtomicLong deletedFiles = new AtomicLong();
+
+    // ------------------ Properties --------------------
+
+    /**
+     * @return number of files physically written
+     */
+    public long getWrittenFiles() {
+        return writtenFiles.get();
+    }
+
+    /**
+     * @return number of files left untouched because their content didn't change
+     */
+    public long getSkippedFiles() {
+        return skippedFiles.get();
+    }
+
+    /**
+     * @return number of stale files of a previous build removed because nothing generates them anymore
+     */
+    public long getDeletedFiles() {
+        return deletedFiles.get();
+    }
+
+    // ------------------ Logic      --------------------
+
+    public void fileWritten() {
+        writtenFiles.incrementAndGet();
+    }
+
+    public void fileSkipped() {
+        skippedFiles.incrementAndGet();
+    }
+
+    public void fileDeleted() {
+        deletedFiles.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return getWrittenFiles() + " files written, " + getSkippedFiles() + " unchanged files skipped, " +
+                getDeletedFiles() + " stale files deleted";
+    }
+}
@@ -29,6 +29,8 @@ import javax.tools.FileObject;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Created by kibork on 5/2/2018.
@@ -38,7 +40,25 @@ public interface StorageStrategy {
 
     PrintWriter createWriter(String filename) throws IOException;
 
-    FileObject getFile(String filename);
+    PrintWriter createWriter(String filename, Collection<String> originatingClasses) throws IOException;
+
+    default FileObject getFile(String filename) {
+        return getFile(filename, Collections.emptyList());
+    }
+
+    /**
+     * @param originatingClasses qualified names of the classes the file is generated from,
+     *                           reported to the Filer for incremental compilation
+     */
+    FileObject getFile(String filename, Collection<String> originatingClasses);
 
     PrintWriter createWriter(Endpoint endpoint) throws IOException;
+
+    StorageStatistics getStatistics();
+
+    /**
+     * Completes the pending writes, called once when processing is over
+     */
+    default void close() throws IOException {
+    }
 }
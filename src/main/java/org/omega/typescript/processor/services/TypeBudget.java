@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.services;
+
+import org.omega.typescript.processor.GenConfig;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Limits how far the type expansion goes, configured with the tsg.budget.* properties. Tracks the endpoint,
+ * types and members currently being built so a violation can be reported with the path that caused it.
+ * When a budget is exceeded the type is replaced with <code>any</code> and a warning is reported,
+ * or an error with tsg.budget.action=fail. The model is only built on the compiler thread
+ */
+public class TypeBudget {
+
+    // ---------------- Fields & Constants --------------
+
+    public static final String MAX_TYPES = "budget.max-types";
+
+    public static final String MAX_TYPES_PER_ENDPOINT = "budget.max-types-per-endpoint";
+
+    public static final String MAX_DEPTH = "budget.max-depth";
+
+    public static final String MAX_PROPERTIES = "budget.max-properties";
+
+    private final ProcessingContext context;
+
+    private final Deque<Frame> path = new ArrayDeque<>();
+
+    /**
+     * Budget and endpoint (or type for the property budget) of every violation reported so far,
+     * a runaway graph is only reported once
+     */
+    private final Set<String> reportedViolations = new HashSet<>();
+
+    private int typeCount = 0;
+
+    private int endpointTypeCount = 0;
+
+    private int typeDepth = 0;
+
+    // ------------------ Properties --------------------
+
+    /**
+     * @return readable path of the endpoint, types and members currently being built
+     */
+    public String getPath() {
+        final StringBuilder result = new StringBuilder();
+        final Iterator<Frame> frames = path.descendingIterator();
+        while (frames.hasNext()) {
+            final Frame frame = frames.next();
+            if (!result.isEmpty()) {
+                result.append(" -> ");
+            }
+            result.append(frame.name);
+            if (frame.member != null) {
+                result.append('.').append(frame.member);
+            }
+        }
+        return result.toString();
+    }
+
+    // ------------------ Logic      --------------------
+
+    public TypeBudget(final ProcessingContext context) {
+        this.context = context;
+    }
+
+    public void enterEndpoint(final String controllerClassName) {
+        path.push(new Frame(controllerClassName, true));
+        endpointTypeCount = 0;
+    }
+
+    public void enterType(final String className) {
+        path.push(new Frame(className, false));
+        ++typeDepth;
+    }
+
+    public void exit() {
+        final Frame frame = path.pop();
+        if (!frame.endpoint) {
+            --typeDepth;
+        }
+    }
+
+    /**
+     * Sets the member of the innermost type or endpoint the following references are resolved for
+     */
+    public void at(final String member) {
+        final Frame frame = path.peek();
+        if (frame != null) {
+            frame.member = member;
+        }
+    }
+
+    /**
+     * Checks the type, depth and per endpoint budgets before a new type is defined
+     *
+     * @return false if the type has to be replaced with <code>any</code>
+     */
+    public boolean allowNewType(final String className) {
+        final GenConfig genConfig = context.getGenConfig();
+        final String endpoint = getEndpoint();
+        if (exceeds(genConfig.getBudgetMaxTypes(), typeCount)) {
+            return reject(MAX_TYPES, genConfig.getBudgetMaxTypes(), className, MAX_TYPES);
+        } else if ((endpoint != null) && exceeds(genConfig.getBudgetMaxTypesPerEndpoint(), endpointTypeCount)) {
+            return reject(MAX_TYPES_PER_ENDPOINT, genConfig.getBudgetMaxTypesPerEndpoint(), className, MAX_TYPES_PER_ENDPOINT + ":" + endpoint);
+        } else if (exceeds(genConfig.getBudgetMaxDepth(), typeDepth)) {
+            return reject(MAX_DEPTH, genConfig.getBudgetMaxDepth(), className, MAX_DEPTH + ":" + endpoint);
+        }
+        ++typeCount;
+        ++endpointTypeCount;
+        return true;
+    }
+
+    /**
+     * Checks the property budget of the innermost type before the type of the property is resolved
+     *
+     * @return false if the property type has to be replaced with <code>any</code>
+     */
+    public boolean allowProperty(final String propertyName) {
+        final Frame frame = path.peek();
+        if ((frame == null) || frame.endpoint) {
+            return true;
+        }
+        if (frame.properties.contains(propertyName)) {
+            return true;
+        }
+        final int maxProperties = context.getGenConfig().getBudgetMaxProperties();
+        if (exceeds(maxProperties, frame.properties.size())) {
+            return reject(MAX_PROPERTIES, maxProperties, frame.name + "." + propertyName, MAX_PROPERTIES + ":" + frame.name);
+        }
+        frame.properties.add(propertyName);
+        return true;
+    }
+
+    private static boolean exceeds(final int budget, final int used) {
+        return (budget > 0) && (used >= budget);
+    }
+
+    private boolean reject(final String budgetName, final int budget, final String subject, final String violationKey) {
+        if (reportedViolations.add(violationKey)) {
+            final String message = "Type Script Generator: " + GenConfig.INTERNAL_PROP_PREFIX + budgetName + "=" + budget +
+                    " exceeded by " + subject + " at " + getPath();
+            if (context.getGenConfig().isBudgetFailBuild()) {
+                context.error(message);
+            } else {
+                context.warning(message + ", replaced with any");
+            }
+        }
+        return false;
+    }
+
+    private String getEndpoint() {
+        final Frame root = path.peekLast();
+        return ((root != null) && root.endpoint) ? root.name : null;
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    private static class Frame {
+
+        private final String name;
+
+        private final boolean endpoint;
+
+        /**
+         * Properties within the budget, several locators may report the same property
+         */
+        private final Set<String> properties = new HashSet<>();
+
+        private String member;
+
+        Frame(final String name, final boolean endpoint) {
+            this.name = name;
+            this.endpoint = endpoint;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.services;
+
+import javax.tools.FileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands the rendered files to a small pool of I/O threads so rendering overlaps with slow file systems.
+ * The target file is still created on the calling thread, which keeps every javac Filer call on the compiler thread,
+ * only writing the content and closing the file happen in the background. The queue is bounded, once it's full the
+ * rendering thread writes the file itself. Failures are reported by {@link #close()}
+ */
+public class WriteBehindStorageStrategy extends BaseStorageStrategy {
+
+    // ---------------- Fields & Constants --------------
+
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
+    private final BaseStorageStrategy target;
+
+    private final ThreadPoolExecutor executor;
+
+    private final ConcurrentLinkedQueue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    // ------------------ Properties --------------------
+
+    @Override
+    public StorageStatistics getStatistics() {
+        return target.getStatistics();
+    }
+
+    // ------------------ Logic      --------------------
+
+    public WriteBehindStorageStrategy(final ProcessingContext context, final FileNamingStrategy fileNamingStrategy,
+                                      final BaseStorageStrategy target, final int threads, final int queueSize) {
+        super(context, fileNamingStrategy);
+        this.target = target;
+        this.executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "tsg-write-behind-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public PrintWriter createWriter(final String filename, final Collection<String> originatingClasses) throws IOException {
+        final Writer fileWriter = target.openWriter(filename, originatingClasses);
+        final StringWriter content = new StringWriter(4 * 1024);
+        return new PrintWriter(content) {
+            private boolean closed = false;
+
+            @Override
+            public void close() {
+                super.close();
+                if (!closed) {
+                    closed = true;
+                    final String text = content.toString();
+                    pendingWrites.add(new PendingWrite(filename, executor.submit(() -> {
+                        try (Writer writer = fileWriter) {
+                            writer.write(text);
+                        }
+                        return null;
+                    })));
+                }
+            }
+        };
+    }
+
+    /**
+     * Files copied directly are written synchronously
+     */
+    @Override
+    public FileObject getFile(final String filename, final Collection<String> originatingClasses) {
+        return target.getFile(filename, originatingClasses);
+    }
+
+    /**
+     * Waits for the queued files, reports every failed write and stops the I/O threads
+     */
+    @Override
+    public void close() throws IOException {
+        final List<String> failedFiles = new ArrayList<>();
+        IOException failure = null;
+        PendingWrite write;
+        while ((write = pendingWrites.poll()) != null) {
+            try {
+                write.result().get();
+            } catch (ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                context.error("Failed to write file " + write.filename() + ": " + cause.getMessage());
+                failedFiles.add(write.filename());
+                if (failure == null) {
+                    failure = cause instanceof IOException ioException ? ioException : new IOException(cause);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the generated files to be written", ex);
+            }
+        }
+        executor.shutdown();
+        target.close();
+        if (failure != null) {
+            throw new IOException(failedFiles.size() + " generated files failed to be written, first: " + failedFiles.get(0), failure);
+        }
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    private record PendingWrite(String filename, Future<?> result) {
+    }
+}
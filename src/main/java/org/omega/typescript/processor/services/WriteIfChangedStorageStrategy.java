@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.services;
+
+import org.omega.typescript.processor.utils.BufferedFileObject;
+import org.omega.typescript.processor.utils.IOUtils;
+
+import javax.tools.FileObject;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.Collection;
+
+/**
+ * Renders every file into memory and only touches the disk when the content hash differs from the existing file,
+ * so unchanged files keep their modification time between builds
+ */
+public class WriteIfChangedStorageStrategy extends BaseStorageStrategy {
+
+    // ---------------- Fields & Constants --------------
+
+    // ------------------ Logic      --------------------
+
+    public WriteIfChangedStorageStrategy(final ProcessingContext context, final FileNamingStrategy fileNamingStrategy) {
+        super(context, fileNamingStrategy);
+    }
+
+    @Override
+    public boolean writesLocalFiles() {
+        return true;
+    }
+
+    @Override
+    public FileObject getFile(final String filename, final Collection<String> originatingClasses) {
+        final Path targetFile = Paths.get(filename).toAbsolutePath();
+        return new BufferedFileObject(targetFile.toUri(), targetFile.getFileName().toString(),
+                content -> store(targetFile, content));
+    }
+
+    /**
+     * @return false if the file already had the content and was skipped
+     */
+    protected boolean store(final Path targetFile, final byte[] content) throws IOException {
+        try {
+            if (hasSameContent(targetFile, content)) {
+                statistics.fileSkipped();
+                return false;
+            }
+            writeContent(targetFile, content);
+            statistics.fileWritten();
+            return true;
+        } catch (IOException ex) {
+            context.error("Failed to write file " + targetFile + ": " + ex.getMessage());
+            throw ex;
+        }
+    }
+
+    protected boolean hasSameContent(final Path targetFile, final byte[] content) throws IOException {
+        if ((!Files.isRegularFile(targetFile)) || (Files.size(targetFile) != content.length)) {
+            return false;
+        }
+        return MessageDigest.isEqual(IOUtils.sha256(Files.readAllBytes(targetFile)), IOUtils.sha256(content));
+    }
+
+    protected void writeContent(final Path targetFile, final byte[] content) throws IOException {
+        final Path folder = targetFile.getParent();
+        if (folder != null) {
+            Files.createDirectories(folder);
+        }
+        Files.write(targetFile, content);
+    }
+
+}
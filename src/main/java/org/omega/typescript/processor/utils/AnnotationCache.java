@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.utils;
+
+import org.omega.typescript.processor.metrics.AnnotationResolved;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Phase;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.PhaseTimer;
+import org.omega.typescript.processor.services.ProcessingContext;
+
+import javax.lang.model.AnnotatedConstruct;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.QualifiedNameable;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Session level cache of annotation lookups. Keeps the transitive meta-annotations of every annotation type,
+ * the {@link org.springframework.core.annotation.AliasFor} declarations of annotation attributes and
+ * the resolved values per (element, target annotation), so the aliasing is evaluated once.
+ */
+public class AnnotationCache {
+
+    // ------------------ Constants  --------------------
+
+    private static final String JAVA_LANG_ANNOTATION = "java.lang.annotation.";
+
+    // ------------------ Fields     --------------------
+
+    private final ProcessingContext context;
+
+    /**
+     * Transitive meta-annotations keyed by the annotation type name
+     */
+    private final Map<String, List<AnnotationMirror>> metaAnnotations = new ConcurrentHashMap<>();
+
+    private final Map<AnnotatedConstruct, List<AnnotationMirror>> elementAnnotations = new ConcurrentHashMap<>();
+
+    private final Map<ResolutionKey, Optional<ResolvedAnnotationValues>> resolvedAnnotations = new ConcurrentHashMap<>();
+
+    private final Map<ExecutableElement, Optional<AnnotationAlias>> aliases = new ConcurrentHashMap<>();
+
+    private final Map<String, Optional<TypeElement>> annotationTypes = new ConcurrentHashMap<>();
+
+    private final Map<TypeElement, Map<String, ExecutableElement>> attributes = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    // ------------------ Properties --------------------
+
+    /**
+     * @return number of annotation resolutions answered from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of annotation resolutions evaluated
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // ------------------ Logic      --------------------
+
+    public AnnotationCache(final ProcessingContext context) {
+        this.context = context;
+    }
+
+    public Optional<ResolvedAnnotationValues> resolveAnnotation(final String expectedClassName, final AnnotatedConstruct element) {
+        final AnnotationResolved event = new AnnotationResolved();
+        event.begin();
+        final ResolutionKey key = new ResolutionKey(element, expectedClassName);
+        final Optional<ResolvedAnnotationValues> cached = resolvedAnnotations.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            event.complete(expectedClassName, element, true, cached.isPresent());
+            return cached;
+        }
+        misses.incrementAndGet();
+        try (PhaseTimer ignored = context.getMetrics().start(Phase.ANNOTATIONS)) {
+            final Optional<ResolvedAnnotationValues> resolved = AnnotationUtils.doResolveAnnotation(expectedClassName, element, context);
+            resolvedAnnotations.put(key, resolved);
+            event.complete(expectedClassName, element, false, resolved.isPresent());
+            return resolved;
+        }
+    }
+
+    /**
+     * @return direct annotations of the element followed by their transitive meta-annotations
+     */
+    public List<AnnotationMirror> getAllAnnotations(final AnnotatedConstruct element) {
+        if (element instanceof DeclaredType) {
+            return getMetaAnnotations((DeclaredType) element);
+        }
+        final List<AnnotationMirror> cached = elementAnnotations.get(element);
+        if (cached != null) {
+            return cached;
+        }
+        final List<? extends AnnotationMirror> directAnnotations = element.getAnnotationMirrors();
+        final List<AnnotationMirror> result;
+        if (directAnnotations.isEmpty()) {
+            result = Collections.emptyList();
+        } else {
+            final List<AnnotationMirror> all = new ArrayList<>(directAnnotations);
+            directAnnotations.forEach(am -> all.addAll(getMetaAnnotations(am.getAnnotationType())));
+            result = Collections.unmodifiableList(all);
+        }
+        elementAnnotations.put(element, result);
+        return result;
+    }
+
+    /**
+     * @return annotations declared on the annotation type, followed by their own meta-annotations
+     */
+    public List<AnnotationMirror> getMetaAnnotations(final DeclaredType annotationType) {
+        final QualifiedNameable element = (QualifiedNameable) annotationType.asElement();
+        final String name = element.getQualifiedName().toString();
+        if (name.startsWith(JAVA_LANG_ANNOTATION)) {
+            return Collections.emptyList();
+        }
+        final List<AnnotationMirror> cached = metaAnnotations.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        // Guards against annotations that are meta-annotated with themselves
+        metaAnnotations.put(name, Collections.emptyList());
+
+        final List<? extends AnnotationMirror> directAnnotations = element.getAnnotationMirrors();
+        final List<AnnotationMirror> all = new ArrayList<>(directAnnotations);
+        directAnnotations.forEach(am -> all.addAll(getMetaAnnotations(am.getAnnotationType())));
+        final List<AnnotationMirror> result = Collections.unmodifiableList(all);
+        metaAnnotations.put(name, result);
+        return result;
+    }
+
+    TypeElement getAnnotationType(final String className) {
+        return annotationTypes.computeIfAbsent(className,
+                name -> Optional.ofNullable(context.getProcessingEnv().getElementUtils().getTypeElement(name))
+        ).orElse(null);
+    }
+
+    ExecutableElement getAttribute(final TypeElement annotationType, final String attributeName) {
+        if (annotationType == null) {
+            return null;
+        }
+        return attributes.computeIfAbsent(annotationType, type -> {
+            final Map<String, ExecutableElement> typeAttributes = new HashMap<>();
+            for (final Element enclosed : type.getEnclosedElements()) {
+                if (enclosed instanceof ExecutableElement) {
+                    typeAttributes.putIfAbsent(enclosed.getSimpleName().toString(), (ExecutableElement) enclosed);
+                }
+            }
+            return typeAttributes;
+        }).get(attributeName);
+    }
+
+    Optional<AnnotationAlias> getAlias(final ExecutableElement attribute) {
+        return aliases.computeIfAbsent(attribute, a -> AnnotationUtils.readAlias(a, context));
+    }
+
+    public void clear() {
+        metaAnnotations.clear();
+        elementAnnotations.clear();
+        resolvedAnnotations.clear();
+        aliases.clear();
+        annotationTypes.clear();
+        attributes.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "annotation resolutions: " + getHits() + " cached, " + getMisses() + " evaluated";
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    private record ResolutionKey(AnnotatedConstruct element, String annotationClassName) {
+    }
+}
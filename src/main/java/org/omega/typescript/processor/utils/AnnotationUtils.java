@@ -31,7 +31,6 @@ import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Stream;
 
 /**
  * Created by kibork on 3/7/2018.
@@ -59,7 +58,14 @@ public final class AnnotationUtils {
     public static Optional<ResolvedAnnotationValues> resolveAnnotation(final String expectedClassName,
                                                                        final AnnotatedConstruct element,
                                                                        final ProcessingContext context) {
-        final List<? extends AnnotationMirror> annotationMirrors = getAllAnnotations(element);
+        return context.getAnnotationCache().resolveAnnotation(expectedClassName, element);
+    }
+
+    static Optional<ResolvedAnnotationValues> doResolveAnnotation(final String expectedClassName,
+                                                                  final AnnotatedConstruct element,
+                                                                  final ProcessingContext context) {
+        final AnnotationCache cache = context.getAnnotationCache();
+        final List<? extends AnnotationMirror> annotationMirrors = cache.getAllAnnotations(element);
         if (annotationMirrors.isEmpty()) {
             return Optional.empty();
         }
@@ -67,8 +73,7 @@ public final class AnnotationUtils {
         boolean found = false;
         final ResolvedAnnotationValues result = new ResolvedAnnotationValues(expectedClassName);
 
-        final TypeElement targetAnnotationMirror = context.getProcessingEnv().getElementUtils()
-                .getTypeElement(expectedClassName);
+        final TypeElement targetAnnotationMirror = cache.getAnnotationType(expectedClassName);
 
         for (final AnnotationMirror annotation : annotationMirrors) {
             final Map<? extends ExecutableElement, ? extends AnnotationValue> values = annotation.getElementValues();
@@ -77,9 +82,9 @@ public final class AnnotationUtils {
             if (result.isTargetClass(annotation)) {
                 found = true;
                 values.forEach((property, value) ->
-                        setPropertyAndAliases(context, result, property, value, null, targetAnnotationMirror));
+                        setPropertyAndAliases(cache, result, getAnnotationPropertyName(property), value, targetAnnotationMirror));
             } else {
-                found |= checkForAliasedProperties(context, result, values, false, targetAnnotationMirror);
+                found |= checkForAliasedProperties(cache, result, values, false, targetAnnotationMirror);
             }
 
         }
@@ -87,14 +92,11 @@ public final class AnnotationUtils {
         return !found ? Optional.empty() : Optional.of(result);
     }
 
-    private static void setPropertyAndAliases(final ProcessingContext context,
+    private static void setPropertyAndAliases(final AnnotationCache cache,
                                               final ResolvedAnnotationValues result,
-                                              final ExecutableElement valueElement,
+                                              final String propertyName,
                                               final AnnotationValue value,
-                                              final AnnotationMirror aliasForMirror,
                                               final TypeElement targetAnnotationType) {
-        final String propertyName = getAliasedPropName(context, valueElement, aliasForMirror);
-
         final boolean newValue = result.getValueMap()
                 .putIfAbsent(propertyName, value) == null;
 
@@ -103,25 +105,21 @@ public final class AnnotationUtils {
         }
 
         //Check if the target property has an alias
-        final ExecutableElement targetProperyElement = targetAnnotationType.getEnclosedElements().stream()
-                .filter(e -> propertyName.equals(e.getSimpleName().toString()))
-                .filter(e -> e instanceof ExecutableElement)
-                .map(e -> (ExecutableElement) e)
-                .findFirst().orElse(null);
+        final ExecutableElement targetProperyElement = cache.getAttribute(targetAnnotationType, propertyName);
 
         if (targetProperyElement == null) {
             return;
         }
-        checkPropertyForAlias(context, result, targetProperyElement, value, true, targetAnnotationType);
+        checkPropertyForAlias(cache, result, targetProperyElement, value, true, targetAnnotationType);
     }
 
-    private static boolean checkForAliasedProperties(ProcessingContext context, ResolvedAnnotationValues result,
+    private static boolean checkForAliasedProperties(AnnotationCache cache, ResolvedAnnotationValues result,
                                                      Map<? extends ExecutableElement, ? extends AnnotationValue> values,
                                                      boolean localToClass, TypeElement targetAnnotationMirror) {
         final AtomicBoolean found = new AtomicBoolean(false);
         values.forEach((valueElement, value) -> {
             //How deep does the rabbit hole go? Can you create meta annotations for AliasFor? Who knows...
-            final boolean hasFound = checkPropertyForAlias(context, result, valueElement, value, localToClass, targetAnnotationMirror);
+            final boolean hasFound = checkPropertyForAlias(cache, result, valueElement, value, localToClass, targetAnnotationMirror);
             if (hasFound) {
                 found.set(true);
             }
@@ -129,31 +127,38 @@ public final class AnnotationUtils {
         return found.get();
     }
 
-    private static boolean checkPropertyForAlias(ProcessingContext context, ResolvedAnnotationValues result, ExecutableElement valueElement,
+    private static boolean checkPropertyForAlias(AnnotationCache cache, ResolvedAnnotationValues result, ExecutableElement valueElement,
                                                  AnnotationValue value, boolean localToClass, final TypeElement targetAnnotationMirror) {
-        final Optional<? extends AnnotationMirror> aliasForOption = getAnnotation(valueElement, AliasFor.class.getName());
-        return aliasForOption
-                .filter(annotationMirror -> processAliasedProperty(context, result, valueElement, value, annotationMirror, localToClass, targetAnnotationMirror))
+        return cache.getAlias(valueElement)
+                .filter(alias -> processAliasedProperty(cache, result, alias, value, localToClass, targetAnnotationMirror))
                 .isPresent();
     }
 
-    private static boolean processAliasedProperty(ProcessingContext context, ResolvedAnnotationValues result,
-                                                  ExecutableElement valueElement, AnnotationValue value, AnnotationMirror aliasForMirror,
+    private static boolean processAliasedProperty(AnnotationCache cache, ResolvedAnnotationValues result,
+                                                  AnnotationAlias alias, AnnotationValue value,
                                                   final boolean localToClass, final TypeElement targetAnnotationMirror) {
-        final String targetClass = getAliasAnnotationClassName(aliasForMirror, context);
+        final String targetClass = alias.getAnnotationClassName();
 
         if ((result.isTargetClass(targetClass)) | (((!StringUtils.hasText(targetClass)) && (localToClass)))) {
-            setPropertyAndAliases(context, result, valueElement, value, aliasForMirror, targetAnnotationMirror);
+            setPropertyAndAliases(cache, result, alias.getAttributeName(), value, targetAnnotationMirror);
             return true;
         } else {
             return false;
         }
     }
 
+    /**
+     * Reads the {@link AliasFor} declaration of an annotation attribute
+     */
+    static Optional<AnnotationAlias> readAlias(final ExecutableElement valueElement, final ProcessingContext context) {
+        return getAnnotation(valueElement, AliasFor.class.getName())
+                .map(aliasForMirror -> new AnnotationAlias(
+                        getAliasedPropName(context, valueElement, aliasForMirror),
+                        getAliasAnnotationClassName(aliasForMirror, context)
+                ));
+    }
+
     private static String getAliasedPropName(ProcessingContext context, ExecutableElement valueElement, AnnotationMirror aliasForMirror) {
-        if (aliasForMirror == null) {
-            return getAnnotationPropertyName(valueElement);
-        }
         final String attribute = getValue(aliasForMirror, "attribute", context)
                 .map(av -> readSimpleAnnotationValue(av, context)).orElse(null);
         final String valueAttribute = getValue(aliasForMirror, "value", context)
@@ -217,23 +222,9 @@ public final class AnnotationUtils {
                 ;
     }
 
-    public static List<? extends AnnotationMirror> getAllAnnotations(final AnnotatedConstruct annotatedConstruct) {
-        final List<? extends AnnotationMirror> directAnnotations;
-        if (annotatedConstruct instanceof DeclaredType) {
-            final DeclaredType declaredType = (DeclaredType) annotatedConstruct;
-            final QualifiedNameable element = (QualifiedNameable) declaredType.asElement();
-            if (element.getQualifiedName().toString().startsWith("java.lang.annotation.")) {
-                return Collections.emptyList();
-            }
-            directAnnotations = element.getAnnotationMirrors();
-        } else {
-            directAnnotations = annotatedConstruct.getAnnotationMirrors();
-        }
-        final List<? extends AnnotationMirror> derevedAnnotations = directAnnotations.stream()
-                .flatMap(am -> getAllAnnotations(am.getAnnotationType()).stream())
-                .toList();
-        return Stream.concat(directAnnotations.stream(), derevedAnnotations.stream())
-                .toList();
+    public static List<? extends AnnotationMirror> getAllAnnotations(final AnnotatedConstruct annotatedConstruct,
+                                                                     final ProcessingContext context) {
+        return context.getAnnotationCache().getAllAnnotations(annotatedConstruct);
     }
 
     @SuppressWarnings("unchecked")
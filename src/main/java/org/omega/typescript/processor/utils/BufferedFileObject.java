@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.utils;
+
+import javax.tools.FileObject;
+import java.io.*;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * File object that collects the written content in memory and hands it over to a {@link ContentHandler}
+ * once the output is closed, allowing the storage strategies to decide if and how the content reaches the disk.
+ * After that the file reads the buffered content, reading it before the output is closed is an error
+ * and {@link #isSkipped()} tells whether the handler left the stored file untouched
+ */
+public class BufferedFileObject implements FileObject {
+
+    // --------------------- Constants & Fields -------------------
+
+    private final URI uri;
+
+    private final String name;
+
+    private final ContentHandler contentHandler;
+
+    private volatile byte[] content;
+
+    private volatile boolean skipped = false;
+
+    // --------------------------- Methods ------------------------
+
+    public BufferedFileObject(final URI uri, final String name, final ContentHandler contentHandler) {
+        this.uri = uri;
+        this.name = name;
+        this.contentHandler = contentHandler;
+    }
+
+    @Override
+    public URI toUri() {
+        return uri;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public InputStream openInputStream() {
+        return new ByteArrayInputStream(getContent());
+    }
+
+    @Override
+    public OutputStream openOutputStream() {
+        return new ByteArrayOutputStream(8 * 1024) {
+            private boolean closed = false;
+
+            @Override
+            public void close() throws IOException {
+                if (!closed) {
+                    closed = true;
+                    content = toByteArray();
+                    skipped = !contentHandler.store(content);
+                }
+            }
+        };
+    }
+
+    @Override
+    public Reader openReader(final boolean ignoreEncodingErrors) {
+        return new InputStreamReader(openInputStream(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+        return new String(getContent(), StandardCharsets.UTF_8);
+    }
+
+    private byte[] getContent() {
+        final byte[] buffered = content;
+        if (buffered == null) {
+            throw new IllegalStateException("Buffered file " + name + " can't be read before its output is closed");
+        }
+        return buffered;
+    }
+
+    /**
+     * @return true if the output was closed and the handler didn't write the content, as the stored file was up to date
+     */
+    public boolean isSkipped() {
+        return skipped;
+    }
+
+    /**
+     * @return true if the file is buffered and its content was skipped by the handler
+     */
+    public static boolean isSkipped(final FileObject file) {
+        return (file instanceof BufferedFileObject) && ((BufferedFileObject) file).isSkipped();
+    }
+
+    @Override
+    public Writer openWriter() {
+        return new OutputStreamWriter(openOutputStream(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public long getLastModified() {
+        return 0;
+    }
+
+    @Override
+    public boolean delete() {
+        return false;
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    @FunctionalInterface
+    public interface ContentHandler {
+        /**
+         * @return false if the content was skipped, true if it was written
+         */
+        boolean store(byte[] content) throws IOException;
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Buffers the text of a generated file, the buffer is meant to be reused for every file rendered on a thread.
+ * {@link #newLine()} follows {@link java.io.PrintWriter#println()} and writes the platform line separator,
+ * {@code '\n'} appended explicitly is kept as is.
+ */
+public class CodeWriter implements AutoCloseable {
+
+    // ---------------- Fields & Constants --------------
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /**
+     * Buffers that grew past this size are dropped on reset instead of being retained by the render thread
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final long indentWidth;
+
+    private String[] indents = new String[0];
+
+    private StringBuilder buffer = new StringBuilder(CHUNK_SIZE);
+
+    private char[] chunk;
+
+    private boolean open = false;
+
+    // ------------------ Properties --------------------
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    public int length() {
+        return buffer.length();
+    }
+
+    // ------------------ Logic      --------------------
+
+    public CodeWriter(final long indentWidth) {
+        this.indentWidth = indentWidth;
+    }
+
+    /**
+     * Clears the buffer and marks the writer as in use until {@link #close()}
+     */
+    public CodeWriter open() {
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer = new StringBuilder(CHUNK_SIZE);
+        } else {
+            buffer.setLength(0);
+        }
+        open = true;
+        return this;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+    public CodeWriter append(final String text) {
+        buffer.append(text);
+        return this;
+    }
+
+    public CodeWriter append(final char c) {
+        buffer.append(c);
+        return this;
+    }
+
+    public CodeWriter append(final boolean value) {
+        buffer.append(value);
+        return this;
+    }
+
+    /**
+     * Appends the text prefixing every occurrence of the quote character with a backslash
+     */
+    public CodeWriter appendEscaped(final String text, final char quote) {
+        final int length = text.length();
+        int start = 0;
+        for (int index = 0; index < length; ++index) {
+            if (text.charAt(index) == quote) {
+                buffer.append(text, start, index).append('\\');
+                start = index;
+            }
+        }
+        buffer.append(text, start, length);
+        return this;
+    }
+
+    public CodeWriter indent() {
+        return indent(1);
+    }
+
+    public CodeWriter indent(final int level) {
+        buffer.append(getIndent(level));
+        return this;
+    }
+
+    public String getIndent(final int level) {
+        if (level >= indents.length) {
+            final String[] grown = Arrays.copyOf(indents, level + 1);
+            for (int index = indents.length; index < grown.length; ++index) {
+                grown[index] = RenderUtils.indent(indentWidth, index);
+            }
+            indents = grown;
+        }
+        return indents[level];
+    }
+
+    public CodeWriter newLine() {
+        buffer.append(LINE_SEPARATOR);
+        return this;
+    }
+
+    public CodeWriter line(final String text) {
+        return append(text).newLine();
+    }
+
+    /**
+     * Copies the buffer to the target in chunks, without materializing the whole text as a String
+     */
+    public void writeTo(final Writer target) throws IOException {
+        if (chunk == null) {
+            chunk = new char[CHUNK_SIZE];
+        }
+        final int length = buffer.length();
+        for (int offset = 0; offset < length; offset += CHUNK_SIZE) {
+            final int end = Math.min(length, offset + CHUNK_SIZE);
+            buffer.getChars(offset, end, chunk, 0);
+            target.write(chunk, 0, end - offset);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+
+}
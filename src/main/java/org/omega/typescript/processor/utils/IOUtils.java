@@ -27,6 +27,11 @@ import org.omega.typescript.processor.services.ProcessingContext;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 import java.io.*;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * Created by kibork on 5/7/2018.
@@ -59,6 +64,32 @@ public final class IOUtils {
         }
     }
 
+    public static byte[] sha256(final byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not supported by the JVM", ex);
+        }
+    }
+
+    /**
+     * Locates a file in the generated sources folder. The file is accessed directly rather than through the Filer,
+     * so it can be read back and rewritten in later builds
+     * @throws IllegalStateException if the generated sources are not stored on the file system
+     */
+    public static Path resolveSourceOutputPath(final String name, final ProcessingContext context) throws IllegalStateException {
+        final URI uri;
+        try {
+            uri = context.getProcessingEnv().getFiler().getResource(StandardLocation.SOURCE_OUTPUT, "", name).toUri();
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new IllegalStateException("unable to locate the generated sources folder: " + ex.getMessage(), ex);
+        }
+        if (!"file".equals(uri.getScheme())) {
+            throw new IllegalStateException("generated sources are not stored on the file system (" + uri + ")");
+        }
+        return Paths.get(uri);
+    }
+
     public static String readClasspathResource(final String name, final ProcessingContext context) {
         try {
             return requireClasspathResource(name, context);
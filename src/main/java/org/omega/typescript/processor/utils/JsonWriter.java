@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Minimal streaming JSON writer for the machine readable reports, keeps the processor free of runtime dependencies
+ */
+public class JsonWriter {
+
+    // ---------------- Fields & Constants --------------
+
+    private final Writer writer;
+
+    private final String indent;
+
+    /**
+     * True for every open scope that already has an element, used to place the separators
+     */
+    private final Deque<Boolean> scopes = new ArrayDeque<>();
+
+    private boolean pendingName = false;
+
+    // ------------------ Logic      --------------------
+
+    public JsonWriter(final Writer writer) {
+        this(writer, "  ");
+    }
+
+    public JsonWriter(final Writer writer, final String indent) {
+        this.writer = writer;
+        this.indent = indent;
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    public JsonWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    public JsonWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    public JsonWriter name(final String name) throws IOException {
+        beforeValue();
+        writeString(name);
+        writer.write(": ");
+        pendingName = true;
+        return this;
+    }
+
+    public JsonWriter value(final String value) throws IOException {
+        beforeValue();
+        if (value == null) {
+            writer.write("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    public JsonWriter value(final long value) throws IOException {
+        beforeValue();
+        writer.write(Long.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(final double value) throws IOException {
+        beforeValue();
+        writer.write(Double.isFinite(value) ? Double.toString(value) : "null");
+        return this;
+    }
+
+    public JsonWriter value(final boolean value) throws IOException {
+        beforeValue();
+        writer.write(Boolean.toString(value));
+        return this;
+    }
+
+    private JsonWriter open(final char bracket) throws IOException {
+        beforeValue();
+        writer.write(bracket);
+        scopes.push(false);
+        return this;
+    }
+
+    private JsonWriter close(final char bracket) throws IOException {
+        final boolean hasElements = scopes.pop();
+        if (hasElements) {
+            newLine();
+        }
+        writer.write(bracket);
+        if (scopes.isEmpty()) {
+            writer.write('\n');
+        }
+        return this;
+    }
+
+    private void beforeValue() throws IOException {
+        if (pendingName) {
+            pendingName = false;
+            return;
+        }
+        if (!scopes.isEmpty()) {
+            if (scopes.pop()) {
+                writer.write(',');
+            }
+            scopes.push(true);
+            newLine();
+        }
+    }
+
+    private void newLine() throws IOException {
+        writer.write('\n');
+        for (int level = 0; level < scopes.size(); ++level) {
+            writer.write(indent);
+        }
+    }
+
+    private void writeString(final String value) throws IOException {
+        writer.write('"');
+        for (int index = 0; index < value.length(); ++index) {
+            final char c = value.charAt(index);
+            switch (c) {
+                case '"': writer.write("\\\""); break;
+                case '\\': writer.write("\\\\"); break;
+                case '\n': writer.write("\\n"); break;
+                case '\r': writer.write("\\r"); break;
+                case '\t': writer.write("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+}
@@ -42,7 +42,7 @@ public class LocalFileObject implements FileObject {
 
     @Override
     public Reader openReader(boolean ignoreEncodingErrors) throws IOException {
-        return new FileReader(file);
+        return new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8);
     }
 
     @Override
@@ -54,7 +54,7 @@ public class LocalFileObject implements FileObject {
 
     @Override
     public Writer openWriter() throws IOException {
-        return new FileWriter(file);
+        return new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
     }
 
     @Override
@@ -22,6 +22,7 @@
 
 package org.omega.typescript.processor.utils;
 
+import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.tools.Diagnostic;
 
@@ -42,14 +43,22 @@ public final class LogUtil {
     }
 
     public static void debug(final ProcessingEnvironment env, String msg) {
-        env.getMessager().printMessage(Diagnostic.Kind.NOTE, msg);
+        print(env, Diagnostic.Kind.NOTE, msg);
     }
 
     public static void warning(final ProcessingEnvironment env, String msg) {
-        env.getMessager().printMessage(Diagnostic.Kind.WARNING, msg);
+        print(env, Diagnostic.Kind.WARNING, msg);
     }
 
     public static void error(final ProcessingEnvironment env, String msg) {
-        env.getMessager().printMessage(Diagnostic.Kind.ERROR, msg);
+        print(env, Diagnostic.Kind.ERROR, msg);
+    }
+
+    private static void print(final ProcessingEnvironment env, final Diagnostic.Kind kind, final String msg) {
+        //The compiler Messager isn't thread safe, emitters may report from the render threads
+        final Messager messager = env.getMessager();
+        synchronized (messager) {
+            messager.printMessage(kind, msg);
+        }
     }
 }
@@ -26,10 +26,8 @@ import org.omega.typescript.processor.model.TypeDefinition;
 import org.omega.typescript.processor.model.TypeInstanceDefinition;
 import org.omega.typescript.processor.model.TypeKind;
 
-import java.io.PrintWriter;
 import java.util.*;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Created by kibork on 5/2/2018.
@@ -42,24 +40,33 @@ public class RenderUtils {
 
     // ------------------ Logic      --------------------
 
-    public static void renderImports(final Collection<TypeDefinition> usedTypes, final PrintWriter writer,
+    /**
+     * Renders one import per file, types emitted into the same file share the import statement
+     */
+    public static void renderImports(final Collection<TypeDefinition> usedTypes, final CodeWriter writer,
                                      final Function<TypeDefinition, String> importPathResolver) {
-        final List<TypeDefinition> importTypes = usedTypes.stream()
+        final Map<String, List<String>> importsByPath = new LinkedHashMap<>();
+        usedTypes.stream()
                 .filter(Objects::nonNull)
                 .filter(t -> !t.isPredefined())
                 .filter(t -> t.getTypeKind() == TypeKind.INTERFACE || t.getTypeKind() == TypeKind.ENUM)
                 .sorted(Comparator.comparing(TypeDefinition::getTypeScriptName))
                 .distinct()
-                .toList();
+                .forEach(t -> importsByPath.computeIfAbsent(importPathResolver.apply(t), path -> new ArrayList<>()).add(t.getTypeScriptName()));
 
-        final String imports = importTypes.stream()
-                .map(t -> "import {" + t.getTypeScriptName() + "} from '" + importPathResolver.apply(t) + "';")
-                .collect(Collectors.joining("\n"));
-        if (!imports.isEmpty()) {
-            writer.println(imports);
-            writer.println();
+        if (importsByPath.isEmpty()) {
+            return;
         }
-
+        boolean first = true;
+        for (final Map.Entry<String, List<String>> entry : importsByPath.entrySet()) {
+            if (!first) {
+                writer.append('\n');
+            }
+            writer.append("import {").append(String.join(", ", entry.getValue()))
+                    .append("} from '").append(entry.getKey()).append("';");
+            first = false;
+        }
+        writer.newLine().newLine();
     }
 
     public static void visitTypeInstance(final Set<TypeDefinition> knownTypes, final TypeInstanceDefinition instance) {
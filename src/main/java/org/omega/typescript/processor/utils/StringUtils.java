@@ -45,10 +45,6 @@ public final class StringUtils {
         return str1 == null ? str2 == null : str1.equals(str2);
     }
 
-    public static String escapeString(final String str, final String escape) {
-        return str.replace(escape, "\\" + escape);
-    }
-
     public static String endWith(final String str, final String suffix) {
         if (str == null) {
             return null;
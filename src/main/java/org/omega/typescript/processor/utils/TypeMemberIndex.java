@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor.utils;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Members of a type including the inherited ones, read once with {@link Elements#getAllMembers(TypeElement)}
+ * and bucketed by kind and by declaring type
+ */
+public class TypeMemberIndex {
+
+    // ---------------- Fields & Constants --------------
+
+    private final TypeElement typeElement;
+
+    private final Map<ElementKind, List<Element>> membersByKind = new EnumMap<>(ElementKind.class);
+
+    private final Map<ElementKind, Map<Element, List<Element>>> membersByDeclaringType = new EnumMap<>(ElementKind.class);
+
+    private final List<? extends RecordComponentElement> recordComponents;
+
+    // ------------------ Properties --------------------
+
+    public TypeElement getTypeElement() {
+        return typeElement;
+    }
+
+    public List<? extends RecordComponentElement> getRecordComponents() {
+        return recordComponents;
+    }
+
+    // ------------------ Logic      --------------------
+
+    public TypeMemberIndex(final TypeElement typeElement, final Elements elements) {
+        this.typeElement = typeElement;
+        final Map<ElementKind, List<Element>> members = new EnumMap<>(ElementKind.class);
+        final Map<ElementKind, Map<Element, List<Element>>> declared = new EnumMap<>(ElementKind.class);
+        for (final Element member : elements.getAllMembers(typeElement)) {
+            members.computeIfAbsent(member.getKind(), k -> new ArrayList<>()).add(member);
+            declared.computeIfAbsent(member.getKind(), k -> new HashMap<>())
+                    .computeIfAbsent(member.getEnclosingElement(), k -> new ArrayList<>())
+                    .add(member);
+        }
+        members.forEach((kind, list) -> membersByKind.put(kind, Collections.unmodifiableList(list)));
+        declared.forEach((kind, map) -> {
+            map.replaceAll((type, list) -> Collections.unmodifiableList(list));
+            membersByDeclaringType.put(kind, map);
+        });
+        this.recordComponents = typeElement.getKind() == ElementKind.RECORD
+                ? Collections.unmodifiableList(typeElement.getRecordComponents())
+                : Collections.emptyList();
+    }
+
+    /**
+     * @return all members of the kind, inherited ones included, in {@link Elements#getAllMembers} order
+     */
+    public List<Element> getMembers(final ElementKind kind) {
+        return membersByKind.getOrDefault(kind, Collections.emptyList());
+    }
+
+    /**
+     * @return members of the kind declared by the given type
+     */
+    public List<Element> getMembers(final ElementKind kind, final Element declaringType) {
+        final Map<Element, List<Element>> byType = membersByDeclaringType.get(kind);
+        if (byType == null) {
+            return Collections.emptyList();
+        }
+        return byType.getOrDefault(declaringType, Collections.emptyList());
+    }
+
+    /**
+     * @return members of the kind declared by the indexed type itself
+     */
+    public List<Element> getDeclaredMembers(final ElementKind kind) {
+        return getMembers(kind, typeElement);
+    }
+
+    public List<ExecutableElement> getMethods() {
+        return asExecutables(getMembers(ElementKind.METHOD));
+    }
+
+    public List<ExecutableElement> getDeclaredMethods() {
+        return asExecutables(getDeclaredMembers(ElementKind.METHOD));
+    }
+
+    public List<Element> getFields() {
+        return getMembers(ElementKind.FIELD);
+    }
+
+    public List<Element> getDeclaredFields() {
+        return getDeclaredMembers(ElementKind.FIELD);
+    }
+
+    public List<Element> getEnumConstants() {
+        return getMembers(ElementKind.ENUM_CONSTANT);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ExecutableElement> asExecutables(final List<Element> members) {
+        return (List<ExecutableElement>) (List<?>) members;
+    }
+}
@@ -51,18 +51,11 @@ public final class TypeUtils {
     }
 
     public static List<Element> getMembers(final TypeElement typeElement, final ElementKind kind, final ProcessingContext context) {
-        return context
-                .getProcessingEnv().getElementUtils()
-                .getAllMembers(typeElement).stream()
-                .filter(el -> el.getKind() == kind)
-                .map(el -> (Element)el)
-                .toList();
+        return context.getMemberIndex(typeElement).getMembers(kind);
     }
 
     public static List<ExecutableElement> getMethods(TypeElement typeElement, ProcessingContext context) {
-        return TypeUtils.getMembers(typeElement, ElementKind.METHOD, context).stream()
-                .map(m -> (ExecutableElement) m)
-                .toList();
+        return context.getMemberIndex(typeElement).getMethods();
     }
 
     public static String getClassName(TypeElement typeElement) {
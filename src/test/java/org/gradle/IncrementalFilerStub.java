@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.gradle;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+
+/**
+ * Stands in for the Filer wrapper of Gradle incremental compilation, only its package is checked
+ */
+public class IncrementalFilerStub implements Filer {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Override
+    public JavaFileObject createSourceFile(final CharSequence name, final Element... originatingElements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public JavaFileObject createClassFile(final CharSequence name, final Element... originatingElements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FileObject createResource(final JavaFileManager.Location location, final CharSequence moduleAndPkg,
+                                     final CharSequence relativeName, final Element... originatingElements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FileObject getResource(final JavaFileManager.Location location, final CharSequence moduleAndPkg,
+                                  final CharSequence relativeName) {
+        throw new UnsupportedOperationException();
+    }
+
+}
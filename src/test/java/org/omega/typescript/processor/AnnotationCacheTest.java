@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+import org.omega.typescript.processor.services.ProcessingContext;
+import org.omega.typescript.processor.utils.AnnotationCache;
+import org.omega.typescript.processor.utils.AnnotationUtils;
+import org.omega.typescript.processor.utils.ResolvedAnnotationValues;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AnnotationCacheTest {
+
+    // ------------------ Constants  --------------------
+
+    private static final String REQUEST_MAPPING = "org.springframework.web.bind.annotation.RequestMapping";
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testGetMappingResolvesToRequestMapping() {
+        final Map<String, List<String>> values = new HashMap<>();
+        final long[] hits = new long[2];
+        final boolean[] sameResult = new boolean[1];
+
+        TestUtils.processSources(context -> {
+            final Element method = getMethod(context, "sample.OrderController", "getOrder");
+            final AnnotationCache cache = context.getAnnotationCache();
+
+            final Optional<ResolvedAnnotationValues> resolved = AnnotationUtils.resolveAnnotation(REQUEST_MAPPING, method, context);
+            hits[0] = cache.getHits();
+            final Optional<ResolvedAnnotationValues> second = AnnotationUtils.resolveAnnotation(REQUEST_MAPPING, method, context);
+            hits[1] = cache.getHits();
+            sameResult[0] = resolved == second;
+
+            resolved.orElseThrow().getValueMap().forEach((property, value) ->
+                    values.put(property, AnnotationUtils.readAnnotationValueList(value, context)));
+        }, JavaFileObjects.forSourceString("sample.OrderController", String.join("\n",
+                "package sample;",
+                "",
+                "import org.springframework.web.bind.annotation.GetMapping;",
+                "",
+                "public class OrderController {",
+                "    @GetMapping(path = \"order/{id}\")",
+                "    public String getOrder() { return null; }",
+                "}")));
+
+        assertEquals(List.of("order/{id}"), values.get("path"));
+        assertEquals(List.of("order/{id}"), values.get("value"), "path is aliased by value on RequestMapping");
+        assertEquals(List.of("GET"), values.get("method"), "method comes from the meta-annotation of GetMapping");
+        assertEquals(0, hits[0]);
+        assertEquals(1, hits[1]);
+        assertTrue(sameResult[0]);
+    }
+
+    private Element getMethod(final ProcessingContext context, final String className, final String methodName) {
+        final TypeElement type = context.getProcessingEnv().getElementUtils().getTypeElement(className);
+        return type.getEnclosedElements().stream()
+                .filter(element -> element.getSimpleName().contentEquals(methodName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+}
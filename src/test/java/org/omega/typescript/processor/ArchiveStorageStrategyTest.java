@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.omega.typescript.processor.services.ArchiveStorageStrategy;
+import org.omega.typescript.processor.services.FileStorageStrategy;
+import org.omega.typescript.processor.services.ProcessingContext;
+import org.omega.typescript.processor.utils.IOUtils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class ArchiveStorageStrategyTest {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    @TempDir
+    Path folder;
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testArchiveIsSortedAndReproducible() throws IOException {
+        final Path first = writeArchive("first.zip");
+        final Path second = writeArchive("second.zip");
+        assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+
+        try (ZipFile zip = new ZipFile(first.toFile())) {
+            final List<String> names = Collections.list(zip.entries()).stream()
+                    .map(ZipEntry::getName)
+                    .toList();
+            assertEquals(List.of("api.module.ts", "api/dto/Order.generated.ts", "api/service/OrderController.generated.ts", "tsg-std/api.ts"), names);
+            assertEquals("export interface Order {\n  total: number;\n}\n", read(zip, "api/dto/Order.generated.ts"));
+            assertEquals(LocalDateTime.of(1980, 1, 1, 0, 0), zip.getEntry("api.module.ts").getTimeLocal());
+        }
+        //Only the archive reaches the disk
+        assertFalse(Files.exists(folder.resolve("api")));
+    }
+
+    private Path writeArchive(final String archiveName) throws IOException {
+        final String outputFolder = folder.toString().replace('\\', '/') + "/";
+        final ProcessingContext context = TestUtils.createContext("tsg.output-folder=" + outputFolder, new ArrayList<>());
+        final ArchiveStorageStrategy storage = new ArchiveStorageStrategy(context, null,
+                new FileStorageStrategy(context, null), outputFolder + archiveName);
+
+        write(storage, outputFolder + "api/service/OrderController.generated.ts", "export class OrderController { }\n");
+        write(storage, outputFolder + "api/dto/Order.generated.ts", "export interface Order {\n}\n");
+        write(storage, outputFolder + "api.module.ts", "export class Api { }\n");
+        IOUtils.copyResource("/ts/service-api.ts", storage.getFile(outputFolder + "tsg-std/api.ts"));
+        //Rendered again in a later round
+        write(storage, outputFolder + "api/dto/Order.generated.ts", "export interface Order {\n  total: number;\n}\n");
+        storage.close();
+
+        assertEquals(4, storage.getStatistics().getWrittenFiles());
+        return folder.resolve(archiveName);
+    }
+
+    private void write(final ArchiveStorageStrategy storage, final String filename, final String content) throws IOException {
+        try (PrintWriter writer = storage.createWriter(filename)) {
+            writer.print(content);
+        }
+    }
+
+    private String read(final ZipFile zip, final String name) throws IOException {
+        return new String(zip.getInputStream(zip.getEntry(name)).readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+}
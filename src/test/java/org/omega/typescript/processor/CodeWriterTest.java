@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Test;
+import org.omega.typescript.processor.utils.CodeWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CodeWriterTest {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testIndentsAreCached() {
+        final CodeWriter writer = new CodeWriter(4).open();
+        assertEquals("", writer.getIndent(0));
+        assertEquals("        ", writer.getIndent(2));
+        assertSame(writer.getIndent(2), writer.getIndent(2));
+
+        writer.indent().append("a").append('\n').indent(2).append(true).newLine();
+        assertEquals("    a\n        true" + System.lineSeparator(), writer.toString());
+    }
+
+    @Test
+    public void testEscapedAppend() {
+        final CodeWriter writer = new CodeWriter(2).open();
+        writer.appendEscaped("'it''s' /api/{id}'", '\'');
+        assertEquals("\\'it\\'\\'s\\' /api/{id}\\'", writer.toString());
+
+        writer.open().appendEscaped("no quotes", '\'');
+        assertEquals("no quotes", writer.toString());
+    }
+
+    @Test
+    public void testBufferIsReusedAndCopiedInChunks() throws IOException {
+        final CodeWriter writer = new CodeWriter(2);
+        try (CodeWriter ignored = writer.open()) {
+            assertTrue(writer.isOpen());
+            for (int index = 0; index < 5000; ++index) {
+                writer.append("line ").append(Integer.toString(index)).append('\n');
+            }
+            final StringWriter out = new StringWriter();
+            writer.writeTo(out);
+            assertEquals(writer.toString(), out.toString());
+        }
+        assertFalse(writer.isOpen());
+
+        writer.open().append("next");
+        assertEquals("next", writer.toString());
+        assertEquals(4, writer.length());
+    }
+
+}
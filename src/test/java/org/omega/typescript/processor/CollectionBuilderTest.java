@@ -42,11 +42,11 @@ public class CollectionBuilderTest {
 
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/CollectionController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.CollectionController")
                 .orElseThrow(() -> new IllegalStateException("CollectionController endpoint not found"));
     }
@@ -47,11 +47,11 @@ public class CompositPropertyBuilderTest {
 
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/CompositeDtoController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.CompositeDtoController")
                 .orElseThrow(() -> new IllegalStateException("CompositeDtoController endpoint not found"));
     }
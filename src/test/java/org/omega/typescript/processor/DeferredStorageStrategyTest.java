@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Test;
+import org.omega.typescript.processor.services.BaseStorageStrategy;
+import org.omega.typescript.processor.services.DeferredStorageStrategy;
+
+import javax.tools.FileObject;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeferredStorageStrategyTest {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    private final List<String> writtenFiles = new ArrayList<>();
+
+    private final List<String> writtenContent = new ArrayList<>();
+
+    private final BaseStorageStrategy target = new BaseStorageStrategy(null, null) {
+        @Override
+        public PrintWriter createWriter(final String filename, final Collection<String> originatingClasses) {
+            final StringWriter content = new StringWriter();
+            return new PrintWriter(content) {
+                @Override
+                public void close() {
+                    super.close();
+                    writtenFiles.add(filename);
+                    writtenContent.add(content.toString());
+                }
+            };
+        }
+
+        @Override
+        public FileObject getFile(final String filename, final Collection<String> originatingClasses) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testFilesFlushedInNameOrder() throws Exception {
+        final DeferredStorageStrategy storage = new DeferredStorageStrategy(null, null, target);
+
+        IntStream.range(0, 100).parallel().forEach(index -> {
+            try (PrintWriter writer = storage.createWriter(String.format("file-%03d.ts", index))) {
+                writer.print("content " + index);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(writtenFiles.isEmpty());
+
+        storage.flush();
+
+        assertEquals(100, writtenFiles.size());
+        for (int index = 0; index < 100; ++index) {
+            assertEquals(String.format("file-%03d.ts", index), writtenFiles.get(index));
+            assertEquals("content " + index, writtenContent.get(index));
+        }
+
+        storage.flush();
+        assertEquals(100, writtenFiles.size());
+    }
+
+}
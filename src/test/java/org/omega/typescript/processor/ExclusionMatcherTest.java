@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Test;
+import org.omega.typescript.processor.services.ExclusionMatcher;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExclusionMatcherTest {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testMatchesLikeRegex() {
+        final List<Pattern> patterns = List.of(
+                Pattern.compile("java\\.io\\..+"),
+                Pattern.compile("java\\.lang\\.Record"),
+                Pattern.compile("com\\.acme\\..*Internal"),
+                Pattern.compile("org\\.SAMPLE\\..+", Pattern.CASE_INSENSITIVE)
+        );
+        final ExclusionMatcher matcher = new ExclusionMatcher(patterns);
+
+        final List<String> names = List.of(
+                "java.io.File", "java.io.", "java.iox.File", "java.io",
+                "java.lang.Record", "java.lang.RecordX", "java.lang.Object",
+                "com.acme.FooInternal", "com.acme.Foo", "org.sample.Dto", "org.other.Dto"
+        );
+        for (final String name : names) {
+            final boolean expected = patterns.stream().anyMatch(p -> p.matcher(name).matches());
+            assertEquals(expected, matcher.isExcluded(name), name);
+        }
+    }
+
+    @Test
+    public void testDecisionsAreMemoized() {
+        final ExclusionMatcher matcher = new ExclusionMatcher(List.of(Pattern.compile("java\\.io\\..+")));
+
+        assertTrue(matcher.isExcluded("java.io.File"));
+        assertTrue(matcher.isExcluded("java.io.File"));
+        assertFalse(matcher.isExcluded("java.lang.String"));
+
+        assertEquals(1, matcher.getHits());
+        assertEquals(2, matcher.getMisses());
+    }
+
+}
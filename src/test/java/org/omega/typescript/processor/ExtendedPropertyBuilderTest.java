@@ -48,11 +48,11 @@ public class ExtendedPropertyBuilderTest {
 
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/PropertyTestController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.PropertyTestController")
                 .orElseThrow(() -> new IllegalStateException("PropertyTestController endpoint not found"));
     }
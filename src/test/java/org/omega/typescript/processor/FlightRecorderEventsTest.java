@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecorderEventsTest {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testEventsAreRecorded() throws Exception {
+        final Path recordingFile = Files.createTempFile("tsg", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.omega.typescript.TypeDefinitionBuilt");
+            recording.enable("org.omega.typescript.EndpointBuilt");
+            recording.enable("org.omega.typescript.AnnotationResolved");
+            recording.enable("org.omega.typescript.FileEmitted");
+            recording.start();
+            TestUtils.compileClass("/org/omega/typescript/processor/test/SimpleDtoController.java");
+            recording.stop();
+            recording.dump(recordingFile);
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+
+            final RecordedEvent typeEvent = events.stream()
+                    .filter(e -> "org.omega.typescript.TypeDefinitionBuilt".equals(e.getEventType().getName()))
+                    .filter(e -> "org.omega.typescript.processor.test.dto.SimpleDto".equals(e.getString("typeName")))
+                    .findFirst()
+                    .orElseThrow();
+            assertTrue(typeEvent.getInt("propertyCount") > 0);
+
+            final RecordedEvent endpointEvent = events.stream()
+                    .filter(e -> "org.omega.typescript.EndpointBuilt".equals(e.getEventType().getName()))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals("org.omega.typescript.processor.test.SimpleDtoController", endpointEvent.getString("controllerClassName"));
+            assertFalse(endpointEvent.getBoolean("restored"));
+
+            assertTrue(events.stream().anyMatch(e -> "org.omega.typescript.AnnotationResolved".equals(e.getEventType().getName())));
+            assertTrue(events.stream()
+                    .filter(e -> "org.omega.typescript.FileEmitted".equals(e.getEventType().getName()))
+                    .anyMatch(e -> e.getLong("bytes") > 0));
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Test;
+import org.omega.typescript.processor.model.TypeContainer;
+import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.services.FileNamingStrategy;
+import org.omega.typescript.processor.services.GenConfigBasedNamingStrategy;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class GenConfigBasedNamingStrategyTest {
+
+    // ------------------ Constants  --------------------
+
+    private static final String CONFIG = String.join("\n",
+            "tsg.output-folder=out/",
+            "com.acme=acme/",
+            "com.acme.model=/models"
+    );
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testDeepestOverrideWins() {
+        final FileNamingStrategy naming = createNamingStrategy();
+
+        assertEquals("out/models/order/OrderDto.generated.ts", naming.getFullTypeFileName(type("com.acme.model.order", "OrderDto")));
+        assertEquals("out/acme/api/Dto.generated.ts", naming.getFullTypeFileName(type("com.acme.api", "Dto")));
+        //Overrides match whole package segments only
+        assertEquals("out/com/acmex/Dto.generated.ts", naming.getFullTypeFileName(type("com.acmex", "Dto")));
+        assertEquals("out/org/other/Dto.generated.ts", naming.getFullTypeFileName(type("org.other", "Dto")));
+    }
+
+    @Test
+    public void testRelativePathsAreStableAcrossLookups() {
+        final FileNamingStrategy naming = createNamingStrategy();
+        final TypeDefinition api = type("com.acme.api", "Api");
+        final TypeDefinition order = type("com.acme.model.order", "OrderDto");
+
+        for (int index = 0; index < 2; ++index) {
+            assertEquals("../../models/order/OrderDto.generated", naming.getRelativeFileName(api, order));
+            assertEquals("./Api.generated", naming.getRelativeFileName(type("com.acme.api", "Other"), api));
+            assertEquals("../../com/acmex/Dto.generated", naming.getRelativeFileName(type("org.other", "From"), type("com.acmex", "Dto")));
+        }
+    }
+
+    @Test
+    public void testPerPackageLayoutSharesPackageFiles() {
+        final FileNamingStrategy naming = createNamingStrategy(CONFIG + "\ntsg.output.layout=per-package");
+        final TypeDefinition order = type("com.acme.model.order", "OrderDto");
+
+        assertEquals("out/models/order/types.generated.ts", naming.getFullTypeFileName(order));
+        assertEquals("out/models/order/types.generated.ts", naming.getFullTypeFileName(type("com.acme.model.order", "OrderLine")));
+        assertEquals("out/models/types.generated.ts", naming.getFullTypeFileName(type("com.acme.model", "Money")));
+        assertEquals("./types.generated", naming.getRelativeFileName(type("com.acme.model.order", "OrderLine"), order));
+        assertEquals("../../models/order/types.generated", naming.getRelativeFileName(type("com.acme.api", "Api"), order));
+    }
+
+    @Test
+    public void testPerModuleLayoutSharesOverrideFolderFiles() {
+        final FileNamingStrategy naming = createNamingStrategy(CONFIG + "\ntsg.output.layout=per-module\ntsg.output.bundle-name=model");
+        final TypeDefinition order = type("com.acme.model.order", "OrderDto");
+
+        assertEquals("out/models/model.generated.ts", naming.getFullTypeFileName(order));
+        assertEquals("out/models/model.generated.ts", naming.getFullTypeFileName(type("com.acme.model", "Money")));
+        assertEquals("out/acme/model.generated.ts", naming.getFullTypeFileName(type("com.acme.api", "Api")));
+        //Packages without an override share the file in the output folder
+        assertEquals("out/model.generated.ts", naming.getFullTypeFileName(type("org.other", "Dto")));
+        assertEquals("../models/model.generated", naming.getRelativeFileName(type("com.acme.api", "Api"), order));
+        assertEquals("./models/model.generated", naming.getRelativeFileName(type("org.other", "Dto"), order));
+    }
+
+    private FileNamingStrategy createNamingStrategy() {
+        return createNamingStrategy(CONFIG);
+    }
+
+    private FileNamingStrategy createNamingStrategy(final String config) {
+        return new GenConfigBasedNamingStrategy(TestUtils.createContext(config, new ArrayList<>()));
+    }
+
+    private TypeDefinition type(final String packageName, final String name) {
+        final TypeDefinition definition = new TypeDefinition(packageName + "." + name, name);
+        definition.setContainer(new TypeContainer().setPackageElement(true).setFullName(packageName).setShortName(packageName));
+        return definition;
+    }
+
+}
@@ -37,17 +37,19 @@ public class GenericClassControllerTest {
 
     // ------------------ Fields     --------------------
 
+    private ProcessingSession session;
+
     // ------------------ Properties --------------------
 
     // ------------------ Logic      --------------------
 
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/GenericClassController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.GenericClassController")
                 .orElseThrow(() -> new IllegalStateException("GenericClassController endpoint not found"));
     }
@@ -60,7 +62,7 @@ public class GenericClassControllerTest {
 
         final TypeInstanceDefinition type = get.getReturnType();
 
-        final TypeDefinition genericClass = EndpointProcessorSingleton.getInstance().getOracle()
+        final TypeDefinition genericClass = session.getOracle()
                 .getType("org.omega.typescript.processor.test.dto.GenericClass")
                 .orElseThrow(() -> new IllegalStateException("Class Not found"));
 
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import org.gradle.IncrementalFilerStub;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.omega.typescript.processor.emitters.TypeScriptEmitter;
+import org.omega.typescript.processor.services.JavacStorageStrategy;
+import org.omega.typescript.processor.services.ProcessingContext;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Covers what Gradle incremental compilation relies on: the originating elements of the generated files,
+ * the config lookup when endpoints come from class files and the warning for storages Gradle can't track
+ */
+public class GradleIncrementalProcessingTest {
+
+    // ------------------ Constants  --------------------
+
+    private static final String CONTROLLER = "org.omega.typescript.processor.test.SimpleDtoController";
+
+    // ------------------ Fields     --------------------
+
+    @TempDir
+    Path folder;
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testJavacStoragePassesOriginatingElements() throws IOException {
+        final TypeElement controller = (TypeElement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{TypeElement.class},
+                (proxy, method, args) -> null);
+        final Elements elements = (Elements) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Elements.class},
+                (proxy, method, args) -> CONTROLLER.contentEquals((CharSequence) args[0]) ? controller : null);
+        final List<Object[]> created = new ArrayList<>();
+        final Filer filer = (Filer) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Filer.class},
+                (proxy, method, args) -> {
+                    if (!"createResource".equals(method.getName())) {
+                        return null;
+                    }
+                    created.add(args);
+                    return new SimpleJavaFileObject(folder.resolve(args[2].toString()).toUri(), JavaFileObject.Kind.OTHER) {
+                    };
+                });
+        final ProcessingContext context = TestUtils.createContext("", new ArrayList<>(), Diagnostic.Kind.ERROR,
+                Map.of("getFiler", filer, "getElementUtils", elements));
+
+        new JavacStorageStrategy(context, null).getFile("api/dto/SimpleDto.generated.ts", List.of(CONTROLLER, "org.example.Removed"));
+
+        assertEquals(1, created.size());
+        assertSame(StandardLocation.SOURCE_OUTPUT, created.get(0)[0]);
+        assertEquals("api/dto/SimpleDto.generated.ts", created.get(0)[2].toString());
+        final Element[] originatingElements = (Element[]) created.get(0)[3];
+        assertEquals(1, originatingElements.length, "Classes unknown to the compiler are skipped");
+        assertSame(controller, originatingElements[0]);
+        assertTrue(Files.isDirectory(folder.resolve("api/dto")));
+    }
+
+    @Test
+    public void testConfigFoundWhenEndpointsComeFromClassFiles() throws Exception {
+        final Path classes = compileEndpoint();
+        final Path project = folder.resolve("project");
+        final Path other = project.resolve("src/main/java/sample/Other.java");
+        Files.createDirectories(other.getParent());
+        Files.writeString(other, "package sample;\n\npublic class Other {\n}\n");
+        Files.writeString(project.resolve(GenConfig.CONFIG_FILE), "tsg.output-folder=from-source/\n");
+
+        final Path generated = folder.resolve("generated");
+        final List<Diagnostic<? extends JavaFileObject>> errors = process(classes, generated, List.of(), other);
+
+        assertEquals(List.of(), errors);
+        assertTrue(Files.exists(generated.resolve("from-source/api/dto/SimpleDto.generated.ts")),
+                "The config next to the recompiled source is used for the endpoint loaded from its class file");
+        assertFalse(Files.exists(generated.resolve("build")));
+    }
+
+    @Test
+    public void testConfigOption() throws Exception {
+        final Path classes = compileEndpoint();
+        final Path config = folder.resolve("config/" + GenConfig.CONFIG_FILE);
+        Files.createDirectories(config.getParent());
+        Files.writeString(config, "tsg.output-folder=from-option/\n");
+
+        final Path generated = folder.resolve("generated");
+        final List<Diagnostic<? extends JavaFileObject>> errors = process(classes, generated,
+                List.of("-A" + GenConfig.CONFIG_OPTION + "=" + config), null);
+
+        assertEquals(List.of(), errors);
+        assertTrue(Files.exists(generated.resolve("from-option/api/dto/SimpleDto.generated.ts")));
+
+        final List<Diagnostic<? extends JavaFileObject>> missing = process(classes, folder.resolve("missing"),
+                List.of("-A" + GenConfig.CONFIG_OPTION + "=" + folder.resolve("absent.properties")), null);
+        assertEquals(1, missing.size());
+        assertTrue(missing.get(0).getMessage(null).contains("absent.properties"));
+    }
+
+    @Test
+    public void testGradleWarningForUntrackedStorage() {
+        assertEquals(1, initEmitter("file").size());
+        assertTrue(initEmitter("file").get(0).contains("tsg.storage-strategy=javac"));
+        assertEquals(List.of(), initEmitter("javac"));
+        assertEquals(List.of(), initEmitter("archive"));
+    }
+
+    private List<String> initEmitter(final String storageStrategy) {
+        final List<String> warnings = new ArrayList<>();
+        final ProcessingContext context = TestUtils.createContext(
+                "tsg.storage-strategy=" + storageStrategy + "\ntsg.output-folder=" + folder.toString().replace('\\', '/') + "/",
+                warnings, Diagnostic.Kind.WARNING, Map.of("getFiler", new IncrementalFilerStub()));
+        assertTrue(context.isGradleIncrementalBuild());
+
+        new TypeScriptEmitter().initContext(context);
+        return warnings.stream()
+                .filter(warning -> warning.contains("Gradle"))
+                .toList();
+    }
+
+    /**
+     * Compiles the endpoint without the processor, like the unchanged classes of an incremental build
+     */
+    private Path compileEndpoint() throws IOException {
+        final Path classes = folder.resolve("classes");
+        Files.createDirectories(classes);
+        final List<File> sources = Stream.of("test/SimpleDtoController.java", "test/dto/SimpleDto.java")
+                .map(this::resourceFile)
+                .toList();
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            final Boolean compiled = compiler.getTask(null, fileManager, null,
+                    List.of("-proc:none", "-d", classes.toString(), "-cp", System.getProperty("java.class.path")),
+                    null, fileManager.getJavaFileObjectsFromFiles(sources)).call();
+            assertTrue(compiled);
+        }
+        return classes;
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> process(final Path classes, final Path generated, final List<String> options,
+                                                               final Path source) throws IOException {
+        Files.createDirectories(generated);
+        final List<String> arguments = new ArrayList<>(List.of(
+                "-d", folder.resolve("out").toString(),
+                "-s", generated.toString(),
+                "-cp", classes + File.pathSeparator + System.getProperty("java.class.path")));
+        arguments.addAll(options);
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            final Iterable<? extends JavaFileObject> sources = (source == null) ? List.of() : fileManager.getJavaFileObjects(source);
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, arguments, List.of(CONTROLLER), sources);
+            task.setProcessors(List.of(new ServiceEndpointProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .toList();
+    }
+
+    private File resourceFile(final String name) {
+        try {
+            return new File(getClass().getResource(name).toURI());
+        } catch (URISyntaxException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Test;
+import org.omega.typescript.processor.model.Endpoint;
+import org.omega.typescript.processor.model.TypeDefinition;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IncrementalEmissionTest {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testDirtyStateDrainedAfterRound() {
+        final ProcessingSession session = TestUtils.compileClass(
+                "/org/omega/typescript/processor/test/SimpleDtoController.java"
+        );
+
+        assertFalse(session.getOracle().hasDirtyTypes());
+        assertFalse(session.getEndpointContainer().hasDirtyEndpoints());
+    }
+
+    @Test
+    public void testMarkDirty() {
+        final ProcessingSession session = TestUtils.compileClass(
+                "/org/omega/typescript/processor/test/SimpleDtoController.java"
+        );
+
+        final TypeDefinition simpleDto = session.getOracle()
+                .getType("org.omega.typescript.processor.test.dto.SimpleDto")
+                .orElseThrow(() -> new IllegalStateException("SimpleDto not found"));
+        session.getOracle().markDirty(simpleDto);
+        assertTrue(session.getOracle().hasDirtyTypes());
+
+        final List<TypeDefinition> dirtyTypes = session.getOracle().drainDirtyTypes();
+        assertEquals(1, dirtyTypes.size());
+        assertEquals(simpleDto, dirtyTypes.get(0));
+        assertFalse(session.getOracle().hasDirtyTypes());
+
+        final Endpoint endpoint = session.getEndpointContainer()
+                .getEndpoint("org.omega.typescript.processor.test.SimpleDtoController")
+                .orElseThrow(() -> new IllegalStateException("SimpleDtoController endpoint not found"));
+        session.getEndpointContainer().markDirty(endpoint);
+        assertEquals(List.of(endpoint), session.getEndpointContainer().drainDirtyEndpoints());
+    }
+
+    @Test
+    public void testMarkCleanKeepsOtherTypesDirty() {
+        final ProcessingSession session = TestUtils.compileClass(
+                "/org/omega/typescript/processor/test/SimpleDtoController.java"
+        );
+
+        final TypeDefinition simpleDto = session.getOracle()
+                .getType("org.omega.typescript.processor.test.dto.SimpleDto")
+                .orElseThrow(() -> new IllegalStateException("SimpleDto not found"));
+        final TypeDefinition orphan = new TypeDefinition("org.omega.typescript.processor.test.dto.Orphan", "Orphan");
+        session.getOracle().addType(orphan);
+        session.getOracle().markDirty(simpleDto);
+
+        session.getOracle().markClean(List.of(simpleDto));
+        assertEquals(List.of(orphan), session.getOracle().getDirtyTypes());
+    }
+
+}
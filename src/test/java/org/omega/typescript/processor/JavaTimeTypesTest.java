@@ -44,11 +44,11 @@ public class JavaTimeTypesTest {
 
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/JavaTimeController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.JavaTimeController")
                 .orElseThrow(() -> new IllegalStateException("JavaTimeController endpoint not found"));
     }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.omega.typescript.api.TypeScriptEndpoint;
+import org.omega.typescript.processor.services.ManifestStorageStrategy;
+import org.omega.typescript.processor.services.NioStorageStrategy;
+import org.omega.typescript.processor.services.ProcessingContext;
+import org.omega.typescript.processor.utils.IOUtils;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ManifestStorageStrategyTest {
+
+    // ------------------ Constants  --------------------
+
+    private static final String ORDER = "export interface Order {\n}\n";
+
+    private static final String STATUS = "export enum Status {\n}\n";
+
+    // ------------------ Fields     --------------------
+
+    @TempDir
+    Path folder;
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testUnchangedFilesAreSkippedAndStaleFilesDeleted() throws IOException {
+        ManifestStorageStrategy storage = createStorage();
+        write(storage, Map.of(
+                "api/dto/Order.generated.ts", ORDER,
+                "api/dto/Status.generated.ts", STATUS,
+                "api/old/Removed.generated.ts", "export interface Removed {\n}\n"));
+        storage.close();
+
+        final Path manifest = folder.resolve(ManifestStorageStrategy.MANIFEST_FILE_NAME);
+        assertEquals(List.of(
+                hash(ORDER) + "  api/dto/Order.generated.ts",
+                hash(STATUS) + "  api/dto/Status.generated.ts",
+                hash("export interface Removed {\n}\n") + "  api/old/Removed.generated.ts"
+        ), Files.readAllLines(manifest));
+
+        final Path order = folder.resolve("api/dto/Order.generated.ts");
+        final FileTime lastModified = FileTime.fromMillis(1_000_000_000L);
+        Files.setLastModifiedTime(order, lastModified);
+
+        storage = createStorage();
+        write(storage, Map.of(
+                "api/dto/Order.generated.ts", ORDER,
+                "api/dto/Status.generated.ts", "export enum Status {\n  OPEN = 'OPEN'\n}\n"));
+        storage.close();
+
+        assertEquals(lastModified, Files.getLastModifiedTime(order));
+        assertEquals("export enum Status {\n  OPEN = 'OPEN'\n}\n", Files.readString(folder.resolve("api/dto/Status.generated.ts")));
+        assertFalse(Files.exists(folder.resolve("api/old")), "Emptied folders are deleted with the stale files");
+        assertEquals(1, storage.getStatistics().getSkippedFiles());
+        assertEquals(1, storage.getStatistics().getDeletedFiles());
+        assertEquals(2, Files.readAllLines(manifest).size());
+
+        //Nothing changed, the manifest is kept as well
+        Files.setLastModifiedTime(manifest, lastModified);
+        storage = createStorage();
+        write(storage, Map.of(
+                "api/dto/Order.generated.ts", ORDER,
+                "api/dto/Status.generated.ts", "export enum Status {\n  OPEN = 'OPEN'\n}\n"));
+        storage.close();
+        assertEquals(0, storage.getStatistics().getWrittenFiles());
+        assertEquals(lastModified, Files.getLastModifiedTime(manifest));
+    }
+
+    @Test
+    public void testModifiedFileIsWrittenAgain() throws IOException {
+        ManifestStorageStrategy storage = createStorage();
+        write(storage, Map.of("api/dto/Order.generated.ts", ORDER));
+        storage.close();
+
+        final Path order = folder.resolve("api/dto/Order.generated.ts");
+        Files.writeString(order, "edited");
+        storage = createStorage();
+        write(storage, Map.of("api/dto/Order.generated.ts", ORDER));
+        storage.close();
+
+        assertEquals(ORDER, Files.readString(order));
+        assertTrue(storage.getStatistics().getWrittenFiles() > 0);
+    }
+
+    @Test
+    public void testPartialCompilationKeepsFilesOfUnprocessedClasses() throws IOException {
+        ManifestStorageStrategy storage = createStorage(Set.of());
+        write(storage, Map.of(
+                "api/service/OrderService.generated.ts", "org.example.OrderController",
+                "api/service/StatusService.generated.ts", "org.example.StatusController",
+                "api/dto/Status.generated.ts", "org.example.Status",
+                "api/dto/Removed.generated.ts", "org.example.Removed"), "1");
+        storage.close();
+        assertEquals(List.of(
+                "api/dto/Removed.generated.ts\torg.example.Removed",
+                "api/dto/Status.generated.ts\torg.example.Status",
+                "api/service/OrderService.generated.ts\torg.example.OrderController",
+                "api/service/StatusService.generated.ts\torg.example.StatusController"
+        ), Files.readAllLines(folder.resolve(ManifestStorageStrategy.ORIGINS_FILE_NAME)));
+
+        //Only the order controller is recompiled and Removed was deleted, the status files are still generated by their classes
+        storage = createStorage(Set.of("org.example.OrderController", "org.example.StatusController", "org.example.Status"));
+        write(storage, Map.of("api/service/OrderService.generated.ts", "org.example.OrderController"), "2");
+        storage.close();
+
+        assertTrue(Files.exists(folder.resolve("api/service/StatusService.generated.ts")));
+        assertTrue(Files.exists(folder.resolve("api/dto/Status.generated.ts")));
+        assertFalse(Files.exists(folder.resolve("api/dto/Removed.generated.ts")));
+        assertEquals(1, storage.getStatistics().getDeletedFiles());
+        assertEquals(List.of(
+                "api/dto/Status.generated.ts",
+                "api/service/OrderService.generated.ts",
+                "api/service/StatusService.generated.ts"
+        ), Files.readAllLines(folder.resolve(ManifestStorageStrategy.MANIFEST_FILE_NAME)).stream()
+                .map(line -> line.substring(line.indexOf("  ") + 2))
+                .toList(), "Files of unprocessed classes are kept in the manifest");
+
+        //Every endpoint is processed and none uses Status anymore
+        storage = createStorage(Set.of("org.example.OrderController", "org.example.StatusController", "org.example.Status"));
+        write(storage, Map.of(
+                "api/service/OrderService.generated.ts", "org.example.OrderController",
+                "api/service/StatusService.generated.ts", "org.example.StatusController"), "2");
+        storage.close();
+
+        assertFalse(Files.exists(folder.resolve("api/dto/Status.generated.ts")));
+        assertEquals(2, Files.readAllLines(folder.resolve(ManifestStorageStrategy.MANIFEST_FILE_NAME)).size());
+        assertEquals(2, Files.readAllLines(folder.resolve(ManifestStorageStrategy.ORIGINS_FILE_NAME)).size());
+    }
+
+    private ManifestStorageStrategy createStorage() {
+        return createStorage(Set.of());
+    }
+
+    /**
+     * @param existingClasses classes the compiler still knows, the ones ending with Controller are endpoints
+     */
+    private ManifestStorageStrategy createStorage(final Set<String> existingClasses) {
+        final String outputFolder = folder.toString().replace('\\', '/') + "/";
+        final TypeScriptEndpoint endpoint = proxy(TypeScriptEndpoint.class, (method, args) -> null);
+        final Elements elements = proxy(Elements.class, (method, args) -> {
+            final String className = args[0].toString();
+            if (!existingClasses.contains(className)) {
+                return null;
+            }
+            return proxy(TypeElement.class, (typeMethod, typeArgs) -> className.endsWith("Controller") ? endpoint : null);
+        });
+        final ProcessingContext context = TestUtils.createContext("tsg.output-folder=" + outputFolder, new ArrayList<>(),
+                Diagnostic.Kind.ERROR, Map.of("getElementUtils", elements));
+        return new ManifestStorageStrategy(context, null, new NioStorageStrategy(context, null),
+                outputFolder + ManifestStorageStrategy.MANIFEST_FILE_NAME);
+    }
+
+    private void write(final ManifestStorageStrategy storage, final Map<String, String> files) throws IOException {
+        for (final Map.Entry<String, String> file : files.entrySet()) {
+            try (PrintWriter writer = storage.createWriter(folder.resolve(file.getKey()).toString().replace('\\', '/'))) {
+                writer.print(file.getValue());
+            }
+        }
+    }
+
+    /**
+     * @param files originating class by file name
+     */
+    private void write(final ManifestStorageStrategy storage, final Map<String, String> files,
+                       final String version) throws IOException {
+        for (final Map.Entry<String, String> file : files.entrySet()) {
+            try (PrintWriter writer = storage.createWriter(folder.resolve(file.getKey()).toString().replace('\\', '/'), List.of(file.getValue()))) {
+                writer.print("// " + file.getValue() + " " + version + "\n");
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(final Class<T> type, final BiFunction<Method, Object[], Object> handler) {
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.apply(method, args));
+    }
+
+    private String hash(final String content) {
+        return HexFormat.of().formatHex(IOUtils.sha256(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
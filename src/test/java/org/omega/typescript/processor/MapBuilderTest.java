@@ -42,11 +42,11 @@ public class MapBuilderTest {
 
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/MapController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.MapController")
                 .orElseThrow(() -> new IllegalStateException("MapController endpoint not found"));
     }
@@ -43,11 +43,11 @@ public class MethodDefinitionBuilderTest {
     // ------------------ Logic      --------------------
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/BasicController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.BasicController")
                 .orElseThrow(() -> new IllegalStateException("Basic Controller endpoint not found"));
     }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Test;
+import org.omega.typescript.processor.cache.CacheKey;
+import org.omega.typescript.processor.cache.ModelSnapshot;
+import org.omega.typescript.processor.cache.ModelSnapshotIO;
+import org.omega.typescript.processor.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ModelSnapshotTest {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final ProcessingSession session = TestUtils.compileClass(
+                "/org/omega/typescript/processor/test/GenericClassController.java"
+        );
+
+        final ModelSnapshot snapshot = new ModelSnapshot().setConfigFingerprint("fingerprint");
+        session.getOracle().getKnownTypes().stream()
+                .filter(t -> !t.isPredefined())
+                .forEach(t -> {
+                    snapshot.getTypes().put(t.getFullName(), t);
+                    snapshot.getKeys().put(t.getFullName(), new CacheKey("file:///" + t.getShortName() + ".java", t.getShortName()));
+                });
+        session.getEndpointContainer().getEndpointMap()
+                .forEach((className, endpoint) -> snapshot.getEndpoints().put(className, endpoint));
+
+        final ModelSnapshot restored = writeAndRead(snapshot);
+
+        assertEquals("fingerprint", restored.getConfigFingerprint());
+        assertEquals(snapshot.getKeys(), restored.getKeys());
+        assertEquals(snapshot.getTypes().keySet(), restored.getTypes().keySet());
+
+        final TypeDefinition genericClass = restored.getTypes().get("org.omega.typescript.processor.test.dto.GenericClass");
+        assertEquals(TypeKind.INTERFACE, genericClass.getTypeKind());
+        assertEquals(1, genericClass.getGenericTypeParams().size());
+        {
+            final TypeDefinition typeParam = genericClass.getGenericTypeParams().get(0);
+            assertEquals("org.omega.typescript.processor.test.dto.GenericClass#T", typeParam.getFullName());
+            assertEquals(TypeKind.GENERIC_PLACEHOLDER, typeParam.getTypeKind());
+            assertEquals(2, typeParam.getSuperTypes().size());
+            assertEquals("org.omega.typescript.processor.test.dto.CompositeDto", typeParam.getSuperTypes().get(0).getFullName());
+        }
+
+        final TypeDefinition original = snapshot.getTypes().get("org.omega.typescript.processor.test.dto.GenericClass");
+        assertEquals(original.getProperties().size(), genericClass.getProperties().size());
+        for (int index = 0; index < original.getProperties().size(); ++index) {
+            final PropertyDefinition expected = original.getProperties().get(index);
+            final PropertyDefinition actual = genericClass.getProperties().get(index);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.isNotNullable(), actual.isNotNullable());
+            assertEquals(expected.getType().getFullName(), actual.getType().getFullName());
+            assertEquals(expected.getType().getGenericTypeArguments().size(), actual.getType().getGenericTypeArguments().size());
+        }
+        assertEquals(original.getContainer().getPackageName(), genericClass.getContainer().getPackageName());
+
+        final Endpoint endpoint = restored.getEndpoints().get("org.omega.typescript.processor.test.GenericClassController");
+        final EndpointMethod get = endpoint.getMethod("get")
+                .orElseThrow(() -> new IllegalStateException("Unable to find get method!"));
+        assertEquals("org.omega.typescript.processor.test.dto.GenericClass", get.getReturnType().getFullName());
+        assertSame(endpoint, get.getEndpoint());
+    }
+
+    @Test
+    public void testUnknownFormatRejected() {
+        final byte[] content = "not a model cache".getBytes();
+        assertThrows(IOException.class, () -> ModelSnapshotIO.read(new DataInputStream(new ByteArrayInputStream(content))));
+    }
+
+    private ModelSnapshot writeAndRead(final ModelSnapshot snapshot) throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            ModelSnapshotIO.write(snapshot, out);
+        }
+        return ModelSnapshotIO.read(new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+    }
+
+}
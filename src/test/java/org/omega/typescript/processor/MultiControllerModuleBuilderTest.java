@@ -39,7 +39,7 @@ public class MultiControllerModuleBuilderTest {
 
     @Test
     void testModuleCreation() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/module/SimpleController.java",
                 "/org/omega/typescript/processor/test/module/SimpleController2.java"
         );
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+
+package org.omega.typescript.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.omega.typescript.processor.services.NioStorageStrategy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NioStorageStrategyTest {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    @TempDir
+    Path folder;
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testFileAppearsCompleteOnClose() throws IOException {
+        final NioStorageStrategy storage = new NioStorageStrategy(null, null);
+        final Path target = folder.resolve("api/dto/Order.generated.ts");
+
+        //Multi byte characters and surrogate pairs crossing the staging buffer boundaries
+        final StringBuilder content = new StringBuilder();
+        for (int index = 0; index < 20_000; ++index) {
+            content.append("export interface \u00dc").append(index).append(" { name: '\ud83d\ude00' }\n");
+        }
+        try (Writer writer = storage.getFile(target.toString()).openWriter()) {
+            for (int index = 0; index < content.length(); index += 7) {
+                writer.write(content.toString(), index, Math.min(7, content.length() - index));
+            }
+            assertFalse(Files.exists(target));
+        }
+        assertEquals(content.toString(), Files.readString(target, StandardCharsets.UTF_8));
+
+        try (Writer writer = storage.getFile(target.toString()).openWriter()) {
+            writer.write("export enum Status { }\n");
+        }
+        assertEquals("export enum Status { }\n", Files.readString(target, StandardCharsets.UTF_8));
+
+        try (Stream<Path> files = Files.list(target.getParent())) {
+            assertEquals(List.of(target), files.toList(), "Temporary files must not be left behind");
+        }
+        assertEquals(2, storage.getStatistics().getWrittenFiles());
+    }
+
+    @Test
+    public void testOutputStreamCreatesFolderAndMovesAtomically() throws IOException {
+        final NioStorageStrategy storage = new NioStorageStrategy(null, null);
+        final Path target = folder.resolve("tsg-std/ServiceRequestManager.ts");
+
+        final byte[] content = new byte[200_000];
+        for (int index = 0; index < content.length; ++index) {
+            content[index] = (byte) ('a' + (index % 26));
+        }
+        try (OutputStream out = storage.getFile(target.toString()).openOutputStream()) {
+            out.write(content, 0, 100);
+            out.write(content[100]);
+            out.write(content, 101, content.length - 101);
+            assertFalse(Files.exists(target));
+        }
+        assertArrayEquals(content, Files.readAllBytes(target));
+        try (Stream<Path> files = Files.list(target.getParent())) {
+            assertEquals(List.of(target), files.toList(), "Temporary files must not be left behind");
+        }
+        assertEquals(1, storage.getStatistics().getWrittenFiles());
+    }
+
+    @Test
+    public void testProcessorWritesSupportFiles() throws IOException {
+        final Path output = folder.resolve("generated");
+        final Path config = folder.resolve(GenConfig.CONFIG_FILE);
+        Files.writeString(config, "tsg.storage-strategy=nio\ntsg.output-folder=" + output.toString().replace('\\', '/') + "/\n");
+
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ServiceEndpointProcessor())
+                .withOptions("-A" + GenConfig.CONFIG_OPTION + "=" + config)
+                .compile(JavaFileObjects.forResource(getClass().getResource("/org/omega/typescript/processor/test/SimpleDtoController.java")));
+
+        assertEquals(List.of(), compilation.errors());
+        assertTrue(Files.isRegularFile(output.resolve("tsg-std/api.ts")));
+        assertTrue(Files.isRegularFile(output.resolve("tsg-std/ServiceRequestManager.ts")));
+        assertTrue(Files.isRegularFile(output.resolve("api/dto/SimpleDto.generated.ts")));
+    }
+
+}
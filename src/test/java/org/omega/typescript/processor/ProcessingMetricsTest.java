@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+import org.omega.typescript.processor.metrics.ProcessingMetrics;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Counter;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.Phase;
+import org.omega.typescript.processor.metrics.ProcessingMetrics.PhaseTimer;
+
+import javax.tools.Diagnostic;
+import java.io.StringWriter;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProcessingMetricsTest {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testNestedPhasesAreTimedOnce() throws InterruptedException {
+        final ProcessingMetrics metrics = new ProcessingMetrics(true);
+        try (PhaseTimer outer = metrics.start(Phase.TYPES)) {
+            try (PhaseTimer inner = metrics.start(Phase.TYPES)) {
+                Thread.sleep(5);
+            }
+        }
+
+        assertEquals(2, metrics.getCount(Phase.TYPES));
+        assertTrue(metrics.getNanos(Phase.TYPES) >= 5_000_000L);
+        assertEquals(0, metrics.getCount(Phase.RENDERING));
+    }
+
+    @Test
+    public void testDisabledMetricsAreIgnored() {
+        final ProcessingMetrics metrics = new ProcessingMetrics(false);
+        try (PhaseTimer ignored = metrics.start(Phase.ENDPOINTS)) {
+            metrics.increment(Counter.ENDPOINTS_BUILT);
+        }
+
+        assertEquals(0, metrics.getCount(Phase.ENDPOINTS));
+        assertEquals(0, metrics.getCounter(Counter.ENDPOINTS_BUILT));
+    }
+
+    @Test
+    public void testReport() throws Exception {
+        final ProcessingMetrics metrics = new ProcessingMetrics(true);
+        metrics.add(Counter.FILES_WRITTEN, 3);
+        final StringWriter out = new StringWriter();
+        metrics.writeReport(out);
+
+        final String report = out.toString();
+        assertTrue(report.contains("\"filesWritten\": 3"), report);
+        assertTrue(report.contains("\"rendering\": {"), report);
+        assertTrue(report.startsWith("{") && report.endsWith("}\n"), report);
+    }
+
+    @Test
+    public void testSummaryIsReported() {
+        final ServiceEndpointProcessor processor = new ServiceEndpointProcessor();
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(processor)
+                .withOptions("-A" + ProcessingMetrics.OPTION + "=true")
+                .compile(JavaFileObjects.forResource(getClass().getResource("/org/omega/typescript/processor/test/SimpleDtoController.java")));
+
+        assertTrue(compilation.errors().isEmpty(), compilation.errors().toString());
+        final String summary = compilation.notes().stream()
+                .map(note -> note.getMessage(null))
+                .filter(message -> message.startsWith("Type Script Generator metrics:"))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(summary.contains("endpointsBuilt 1"), summary);
+        assertTrue(summary.contains("endpoints "), summary);
+        assertFalse(compilation.diagnostics().stream()
+                .anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING && d.getMessage(null).contains(ProcessingMetrics.OPTION)));
+    }
+
+    @Test
+    public void testRenderedTypeExpressionsAreReused() {
+        final ServiceEndpointProcessor processor = new ServiceEndpointProcessor();
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(processor)
+                .withOptions("-A" + ProcessingMetrics.OPTION + "=true")
+                .compile(JavaFileObjects.forResource(getClass().getResource("/org/omega/typescript/processor/test/CollectionController.java")));
+
+        assertTrue(compilation.errors().isEmpty(), compilation.errors().toString());
+        final String summary = compilation.notes().stream()
+                .map(note -> note.getMessage(null))
+                .filter(message -> message.startsWith("Type Script Generator metrics:"))
+                .findFirst()
+                .orElseThrow();
+        //stringArray, stringList and stringSet share the interned string[] instance
+        final Matcher hits = Pattern.compile("renderCacheHits (\\d+)").matcher(summary);
+        assertTrue(hits.find(), summary);
+        assertTrue(Long.parseLong(hits.group(1)) >= 2, summary);
+    }
+
+}
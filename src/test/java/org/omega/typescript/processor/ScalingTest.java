@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compiles synthetic code bases of growing size and checks that processor time and the retained model
+ * grow roughly linearly. Excluded from the regular test run, use ./gradlew scalingTest
+ */
+@Tag("scaling")
+public class ScalingTest {
+
+    // ------------------ Constants  --------------------
+
+    private static final int[] SIZES = {10, 20, 40};
+
+    /**
+     * Allowed growth of the per-controller cost between the smallest and the largest size,
+     * a quadratic algorithm grows by the size ratio (4x) or more
+     */
+    private static final double MAX_TIME_GROWTH = 2.5;
+
+    private static final double MAX_HEAP_GROWTH = 1.8;
+
+    private static final int DTOS_PER_CONTROLLER = 8;
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testLinearScaling() {
+        // Warms up javac and the processor classes
+        measure(SIZES[0]);
+
+        final List<Measurement> measurements = new ArrayList<>();
+        for (final int size : SIZES) {
+            measurements.add(measure(size));
+        }
+
+        final Measurement smallest = measurements.get(0);
+        final Measurement largest = measurements.get(measurements.size() - 1);
+        final String report = measurements.toString();
+
+        assertEquals(largest.controllers, largest.endpoints, report);
+        assertTrue(largest.nanosPerController() <= smallest.nanosPerController() * MAX_TIME_GROWTH,
+                "Processor time grows faster than linear: " + report);
+        assertTrue(largest.bytesPerController() <= smallest.bytesPerController() * MAX_HEAP_GROWTH,
+                "Retained model grows faster than linear: " + report);
+    }
+
+    private Measurement measure(final int controllers) {
+        final SyntheticCodebaseGenerator generator = new SyntheticCodebaseGenerator();
+        generator.setControllers(controllers);
+        generator.setDtosPerController(DTOS_PER_CONTROLLER);
+        TimedProcessor processor = new TimedProcessor();
+        ProcessingSession session = TestUtils.compileSources(generator.generate(), processor);
+
+        // The model is the difference between the heap with and without the session
+        final long heapWithModel = usedHeap();
+        final int endpoints = session.getEndpointContainer().getEndpointMap().size();
+        final long processingNanos = processor.processingNanos;
+        session = null;
+        processor = null;
+        final long heapWithoutModel = usedHeap();
+
+        return new Measurement(controllers, endpoints, processingNanos, Math.max(0, heapWithModel - heapWithoutModel));
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int attempt = 0; attempt < 3; ++attempt) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    @SupportedSourceVersion(SourceVersion.RELEASE_21)
+    @SupportedAnnotationTypes(value = {"org.omega.typescript.api.TypeScriptEndpoint"})
+    private static class TimedProcessor extends ServiceEndpointProcessor {
+
+        private long processingNanos;
+
+        @Override
+        public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+            final long start = System.nanoTime();
+            try {
+                return super.process(annotations, roundEnv);
+            } finally {
+                processingNanos += System.nanoTime() - start;
+            }
+        }
+    }
+
+    private record Measurement(int controllers, int endpoints, long processingNanos, long retainedBytes) {
+
+        double nanosPerController() {
+            return (double) processingNanos / controllers;
+        }
+
+        double bytesPerController() {
+            return (double) retainedBytes / controllers;
+        }
+
+        @Override
+        public String toString() {
+            return controllers + " controllers: " + (processingNanos / 1_000_000) + "ms, " + (retainedBytes / 1024) + "KB retained";
+        }
+    }
+}
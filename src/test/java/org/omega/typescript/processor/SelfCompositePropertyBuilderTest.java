@@ -47,11 +47,11 @@ public class SelfCompositePropertyBuilderTest {
 
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/SelfCompositeDtoController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.SelfCompositeDtoController")
                 .orElseThrow(() -> new IllegalStateException("SelfCompositeDtoController endpoint not found"));
     }
@@ -46,11 +46,11 @@ public class SimpleDtoPropertyBuilderTest {
 
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/SimpleDtoController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.SimpleDtoController")
                 .orElseThrow(() -> new IllegalStateException("SimpleDtoController endpoint not found"));
     }
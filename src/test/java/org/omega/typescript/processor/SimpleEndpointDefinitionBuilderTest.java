@@ -36,11 +36,11 @@ class SimpleEndpointDefinitionBuilderTest {
 
     @Test
     void buildEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/SimpleController.java"
         );
 
-        final Optional<Endpoint> endpointOption = endpointProcessorSingleton.getEndpointContainer()
+        final Optional<Endpoint> endpointOption = session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.SimpleController");
 
         Assert.assertTrue(endpointOption.isPresent());
@@ -55,11 +55,11 @@ class SimpleEndpointDefinitionBuilderTest {
 
     @Test
     void buildNamedEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/NamedSimpleController.java"
         );
 
-        final Optional<Endpoint> endpointOption = endpointProcessorSingleton.getEndpointContainer()
+        final Optional<Endpoint> endpointOption = session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.NamedSimpleController");
         Assert.assertTrue(endpointOption.isPresent());
         final Endpoint endpoint = endpointOption.get();
@@ -42,11 +42,11 @@ public class SimpleEnumBuilderTest {
 
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/SimpleEnumController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.SimpleEnumController")
                 .orElseThrow(() -> new IllegalStateException("SimpleEnumController endpoint not found"));
     }
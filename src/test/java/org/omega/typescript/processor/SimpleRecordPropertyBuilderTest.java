@@ -46,11 +46,11 @@ public class SimpleRecordPropertyBuilderTest {
 
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/SimpleRecordController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.SimpleRecordController")
                 .orElseThrow(() -> new IllegalStateException("SimpleRecordController endpoint not found"));
     }
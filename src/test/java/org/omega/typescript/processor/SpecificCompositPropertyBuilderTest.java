@@ -45,11 +45,11 @@ public class SpecificCompositPropertyBuilderTest {
 
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/SpecificCompositeDtoController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.SpecificCompositeDtoController")
                 .orElseThrow(() -> new IllegalStateException("SpecificCompositeDtoController endpoint not found"));
     }
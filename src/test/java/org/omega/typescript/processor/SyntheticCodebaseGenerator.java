@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import lombok.Data;
+
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates Spring MVC code bases of arbitrary size to measure how the processor scales.
+ * Every controller exposes get/save/search methods for its own chain of DTOs, each DTO references the next one
+ * through generic wrappers and nested collections and inherits from a per-controller base class hierarchy.
+ */
+@Data
+public class SyntheticCodebaseGenerator {
+
+    // ------------------ Constants  --------------------
+
+    private static final String ENVELOPE = "Envelope";
+
+    private static final String META_MAPPING = "SyntheticGet";
+
+    // ------------------ Fields     --------------------
+
+    private String basePackage = "synthetic";
+
+    private int controllers = 10;
+
+    private int dtosPerController = 10;
+
+    /**
+     * Number of abstract base classes above every DTO
+     */
+    private int inheritanceDepth = 2;
+
+    /**
+     * Number of type parameters of the generic envelope every DTO holds
+     */
+    private int genericFanOut = 2;
+
+    /**
+     * Depth of the alternating List/Map nesting of the DTO children
+     */
+    private int collectionNesting = 2;
+
+    /**
+     * Every other DTO declares its properties with lombok.Data instead of getters
+     */
+    private boolean lombok = true;
+
+    /**
+     * Get methods use a custom annotation meta-annotated with RequestMapping
+     */
+    private boolean metaAnnotatedMappings = true;
+
+    // ------------------ Properties --------------------
+
+    public String getApiPackage() {
+        return basePackage + ".api";
+    }
+
+    public String getDtoPackage() {
+        return basePackage + ".dto";
+    }
+
+    public String getControllerName(final int controller) {
+        return "Controller" + controller;
+    }
+
+    public String getDtoName(final int controller, final int dto) {
+        return "Dto" + controller + "_" + dto;
+    }
+
+    // ------------------ Logic      --------------------
+
+    /**
+     * @return sources keyed by the qualified class name
+     */
+    public Map<String, String> generateSources() {
+        final Map<String, String> sources = new LinkedHashMap<>();
+        sources.put(getDtoPackage() + ".Status", "package " + getDtoPackage() + ";\n\npublic enum Status { NEW, ACTIVE, CLOSED }\n");
+        sources.put(getDtoPackage() + "." + ENVELOPE, envelope());
+        if (metaAnnotatedMappings) {
+            sources.put(getApiPackage() + "." + META_MAPPING, metaMapping());
+        }
+        for (int controller = 0; controller < controllers; ++controller) {
+            for (int level = 0; level < inheritanceDepth; ++level) {
+                sources.put(getDtoPackage() + "." + baseName(controller, level), base(controller, level));
+            }
+            for (int dto = 0; dto < dtosPerController; ++dto) {
+                final String next = dto + 1 < dtosPerController ? getDtoName(controller, dto + 1) : "Status";
+                sources.put(getDtoPackage() + "." + getDtoName(controller, dto), dto(controller, dto, next));
+            }
+            sources.put(getApiPackage() + "." + getControllerName(controller), controller(controller));
+        }
+        return sources;
+    }
+
+    public List<JavaFileObject> generate() {
+        final List<JavaFileObject> files = new ArrayList<>();
+        generateSources().forEach((className, content) -> files.add(source(className, content)));
+        return files;
+    }
+
+    public void writeTo(final Path sourceFolder) throws IOException {
+        for (final Map.Entry<String, String> source : generateSources().entrySet()) {
+            final Path file = sourceFolder.resolve(source.getKey().replace('.', '/') + ".java");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private String envelope() {
+        final StringBuilder body = new StringBuilder("package " + getDtoPackage() + ";\n\n");
+        body.append("public class ").append(ENVELOPE).append("<");
+        for (int index = 0; index < genericFanOut; ++index) {
+            body.append(index > 0 ? ", " : "").append("T").append(index);
+        }
+        body.append("> {\n");
+        for (int index = 0; index < genericFanOut; ++index) {
+            body.append("    private T").append(index).append(" value").append(index).append(";\n")
+                    .append("    public T").append(index).append(" getValue").append(index)
+                    .append("() { return value").append(index).append("; }\n");
+        }
+        return body.append("}\n").toString();
+    }
+
+    private String metaMapping() {
+        return "package " + getApiPackage() + ";\n\n" +
+                "import org.springframework.core.annotation.AliasFor;\n" +
+                "import org.springframework.web.bind.annotation.RequestMapping;\n" +
+                "import org.springframework.web.bind.annotation.RequestMethod;\n\n" +
+                "import java.lang.annotation.*;\n\n" +
+                "@Target(ElementType.METHOD)\n" +
+                "@Retention(RetentionPolicy.RUNTIME)\n" +
+                "@RequestMapping(method = RequestMethod.GET)\n" +
+                "public @interface " + META_MAPPING + " {\n" +
+                "    @AliasFor(annotation = RequestMapping.class)\n" +
+                "    String[] value() default {};\n" +
+                "}\n";
+    }
+
+    private String baseName(final int controller, final int level) {
+        return "Base" + controller + "_" + level;
+    }
+
+    private String base(final int controller, final int level) {
+        final String parent = level > 0 ? " extends " + baseName(controller, level - 1) : "";
+        return "package " + getDtoPackage() + ";\n\n" +
+                "public abstract class " + baseName(controller, level) + parent + " {\n" +
+                "    private long id" + level + ";\n" +
+                "    private String label" + level + ";\n" +
+                "    public long getId" + level + "() { return id" + level + "; }\n" +
+                "    public String getLabel" + level + "() { return label" + level + "; }\n" +
+                "}\n";
+    }
+
+    private String dto(final int controller, final int dto, final String next) {
+        final String name = getDtoName(controller, dto);
+        final String envelopeType = envelopeType(next);
+        final String nestedType = nestedType(next, collectionNesting);
+        final boolean useLombok = lombok && dto % 2 == 1;
+        final String parent = inheritanceDepth > 0 ? " extends " + baseName(controller, inheritanceDepth - 1) : "";
+
+        final StringBuilder body = new StringBuilder("package " + getDtoPackage() + ";\n\n");
+        body.append("import java.util.List;\n")
+                .append("import java.util.Map;\n\n");
+        if (useLombok) {
+            body.append("@lombok.Data\n");
+        }
+        body.append("public class ").append(name).append(parent).append(" {\n")
+                .append("    private String name;\n")
+                .append("    private int count;\n")
+                .append("    private Status status;\n")
+                .append("    private ").append(envelopeType).append(" envelope;\n")
+                .append("    private ").append(nestedType).append(" children;\n");
+        if (!useLombok) {
+            body.append("    public String getName() { return name; }\n")
+                    .append("    public int getCount() { return count; }\n")
+                    .append("    public Status getStatus() { return status; }\n")
+                    .append("    public ").append(envelopeType).append(" getEnvelope() { return envelope; }\n")
+                    .append("    public ").append(nestedType).append(" getChildren() { return children; }\n");
+        }
+        return body.append("}\n").toString();
+    }
+
+    private String envelopeType(final String argument) {
+        final StringBuilder type = new StringBuilder(ENVELOPE).append("<");
+        for (int index = 0; index < genericFanOut; ++index) {
+            type.append(index > 0 ? ", " : "").append(index % 2 == 0 ? argument : "String");
+        }
+        return type.append(">").toString();
+    }
+
+    private String nestedType(final String element, final int depth) {
+        if (depth <= 0) {
+            return element;
+        }
+        final String inner = nestedType(element, depth - 1);
+        return depth % 2 == 1 ? "List<" + inner + ">" : "Map<String, " + inner + ">";
+    }
+
+    private String controller(final int controller) {
+        final String getMapping = metaAnnotatedMappings ? META_MAPPING : "GetMapping";
+        final StringBuilder body = new StringBuilder();
+        body.append("package ").append(getApiPackage()).append(";\n\n")
+                .append("import ").append(getDtoPackage()).append(".*;\n")
+                .append("import org.omega.typescript.api.TypeScriptEndpoint;\n")
+                .append("import org.springframework.web.bind.annotation.*;\n\n")
+                .append("import java.util.List;\n")
+                .append("import java.util.Map;\n\n")
+                .append("@RestController\n")
+                .append("@TypeScriptEndpoint\n")
+                .append("@RequestMapping(\"/api/c").append(controller).append("\")\n")
+                .append("public class ").append(getControllerName(controller)).append(" {\n");
+        for (int dto = 0; dto < dtosPerController; ++dto) {
+            final String name = getDtoName(controller, dto);
+            body.append("    @").append(getMapping).append("(\"/").append(name).append("/{id}\")\n")
+                    .append("    public ").append(name).append(" get").append(name)
+                    .append("(@PathVariable(\"id\") long id) { return null; }\n")
+                    .append("    @PostMapping(\"/").append(name).append("\")\n")
+                    .append("    public List<").append(name).append("> save").append(name)
+                    .append("(@RequestBody ").append(name).append(" dto) { return null; }\n")
+                    .append("    @GetMapping(\"/").append(name).append("/search\")\n")
+                    .append("    public Map<String, ").append(name).append("> search").append(name)
+                    .append("(@RequestParam(name = \"q\", required = false) String query) { return null; }\n");
+        }
+        return body.append("}\n").toString();
+    }
+
+    private static JavaFileObject source(final String className, final String content) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
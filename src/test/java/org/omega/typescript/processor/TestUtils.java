@@ -26,9 +26,25 @@ import com.google.testing.compile.Compilation;
 import com.google.testing.compile.Compiler;
 import com.google.testing.compile.JavaFileObjects;
 import org.omega.typescript.processor.model.PropertyDefinition;
-
+import org.omega.typescript.processor.model.TypeOracle;
+import org.omega.typescript.processor.services.ProcessingContext;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
 import javax.tools.JavaFileObject;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -46,31 +62,60 @@ public class TestUtils {
     // ------------------ Logic      --------------------
 
 
-    public static EndpointProcessorSingleton compileClass(final String... resourceNames) {
-        final EndpointProcessorSingleton endpointProcessorSingleton = EndpointProcessorSingleton.getInstance();
-        endpointProcessorSingleton.clear();
-        Arrays.stream(resourceNames).forEach(resourceName -> {
-            final JavaFileObject simpleControllerObject = JavaFileObjects.forResource(TestUtils.class.getResource(resourceName));
-
-            try {
-                final Compilation compilation = Compiler.javac()
-                        .withProcessors(new ServiceEndpointProcessor())
-                        .compile(simpleControllerObject);
-                if (!compilation.errors().isEmpty()) {
-                    throw new RuntimeException(
-                            "Unable to compile " + resourceName + " due to compilation errors: " + compilation.errors()
-                    );
-                }
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-        });
+    public static ProcessingSession compileClass(final String... resourceNames) {
+        final List<JavaFileObject> sources = Arrays.stream(resourceNames)
+                .map(resourceName -> JavaFileObjects.forResource(TestUtils.class.getResource(resourceName)))
+                .toList();
+        return compileSources(sources, new ServiceEndpointProcessor());
+    }
 
+    public static ProcessingSession compileSources(final List<JavaFileObject> sources, final ServiceEndpointProcessor processor) {
+        try {
+            final Compilation compilation = Compiler.javac()
+                    .withProcessors(processor)
+                    .compile(sources);
+            if (!compilation.errors().isEmpty()) {
+                throw new RuntimeException(
+                        "Unable to compile " + sources.size() + " sources due to compilation errors: " + compilation.errors()
+                );
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
 
-        return endpointProcessorSingleton;
+        return processor.getSession();
     }
 
 
+    /**
+     * Compiles the sources and runs the check on the first processing round, for the services that need a live compiler
+     */
+    static void processSources(final Consumer<ProcessingContext> check, final JavaFileObject... sources) {
+        final AbstractProcessor processor = new AbstractProcessor() {
+            @Override
+            public Set<String> getSupportedAnnotationTypes() {
+                return Set.of("*");
+            }
+
+            @Override
+            public SourceVersion getSupportedSourceVersion() {
+                return SourceVersion.latestSupported();
+            }
+
+            @Override
+            public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+                if (!roundEnv.processingOver()) {
+                    check.accept(new ProcessingContext(processingEnv, new TypeOracle(), null, null));
+                }
+                return false;
+            }
+        };
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(processor)
+                .compile(sources);
+        assertEquals(List.of(), compilation.errors());
+    }
+
     static void checkProperty(PropertyDefinition propertyDefinition, String tsName, String typeName) {
         assertEquals(tsName, propertyDefinition.getName());
         assertEquals(typeName, propertyDefinition.getType().getShortName());
@@ -82,4 +127,37 @@ public class TestUtils {
         assertEquals(nullable, !propertyDefinition.isNotNullable());
     }
 
+    /**
+     * Creates a context without a compiler for the services that only need the configuration
+     *
+     * @param errors collects the reported errors
+     */
+    static ProcessingContext createContext(final String config, final List<String> errors) {
+        return createContext(config, errors, Diagnostic.Kind.ERROR, Map.of());
+    }
+
+    /**
+     * @param messages collects the reported messages of the given kind
+     * @param environment results of the {@link ProcessingEnvironment} methods by method name, e.g. "getFiler"
+     */
+    static ProcessingContext createContext(final String config, final List<String> messages, final Diagnostic.Kind kind,
+                                           final Map<String, Object> environment) {
+        final Messager messager = (Messager) Proxy.newProxyInstance(TestUtils.class.getClassLoader(), new Class<?>[]{Messager.class},
+                (proxy, method, args) -> {
+                    if ((args != null) && (args[0] == kind)) {
+                        messages.add(args[1].toString());
+                    }
+                    return null;
+                });
+        final ProcessingEnvironment env = (ProcessingEnvironment) Proxy.newProxyInstance(TestUtils.class.getClassLoader(), new Class<?>[]{ProcessingEnvironment.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getOptions" -> environment.getOrDefault("getOptions", Map.of());
+                    case "getMessager" -> messager;
+                    default -> environment.get(method.getName());
+                });
+        final ProcessingContext context = new ProcessingContext(env, new TypeOracle(), null, null);
+        context.getGenConfig().load(new ByteArrayInputStream(config.getBytes(StandardCharsets.UTF_8)));
+        return context;
+    }
+
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+import org.omega.typescript.processor.model.PropertyDefinition;
+import org.omega.typescript.processor.model.TypeDefinition;
+
+import javax.tools.Diagnostic;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TypeBudgetTest {
+
+    // ------------------ Constants  --------------------
+
+    private static final String BUDGET_PACKAGE = "org.omega.typescript.processor.test.budget.";
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testExpansionStopsAtBudget() {
+        final ProcessingSession session = TestUtils.compileClass(
+                "/org/omega/typescript/processor/test/budget/BudgetController.java"
+        );
+
+        final TypeDefinition level2 = session.getOracle().getType(BUDGET_PACKAGE + "Level2").orElseThrow();
+        assertFalse(session.getOracle().getType(BUDGET_PACKAGE + "Level3").isPresent());
+        assertEquals(Object.class.getName(), level2.getProperties().get(0).getType().getTypeDefinition().getFullName());
+
+        final TypeDefinition wide = session.getOracle().getType(BUDGET_PACKAGE + "Wide").orElseThrow();
+        assertEquals(4, wide.getProperties().size());
+        final long replaced = wide.getProperties().stream()
+                .map(PropertyDefinition::getType)
+                .filter(type -> Object.class.getName().equals(type.getTypeDefinition().getFullName()))
+                .count();
+        assertEquals(1, replaced);
+    }
+
+    @Test
+    public void testFailReportsPath() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new ServiceEndpointProcessor())
+                .compile(JavaFileObjects.forResource(getClass().getResource(
+                        "/org/omega/typescript/processor/test/budget/fail/FailingBudgetController.java")));
+
+        final String error = compilation.errors().stream()
+                .map(d -> d.getMessage(null))
+                .filter(message -> message.contains("tsg.budget.max-depth=2"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Budget error not reported: " + compilation.diagnostics()));
+        assertTrue(error.contains("exceeded by " + BUDGET_PACKAGE + "Level3 at org.omega.typescript.processor.test.budget.fail.FailingBudgetController.get() -> "
+                + BUDGET_PACKAGE + "Level1.next -> " + BUDGET_PACKAGE + "Level2.next"), error);
+        assertEquals(Compilation.Status.FAILURE, compilation.status());
+        assertFalse(compilation.diagnostics().stream()
+                .anyMatch(d -> (d.getKind() == Diagnostic.Kind.ERROR) && d.getMessage(null).contains("Exception")));
+    }
+
+}
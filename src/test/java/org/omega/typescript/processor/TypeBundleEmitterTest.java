@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.omega.typescript.processor.emitters.EmitContext;
+import org.omega.typescript.processor.emitters.TypeBundleEmitter;
+import org.omega.typescript.processor.model.TypeContainer;
+import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.model.TypeKind;
+import org.omega.typescript.processor.services.GenConfigBasedNamingStrategy;
+import org.omega.typescript.processor.services.NioStorageStrategy;
+import org.omega.typescript.processor.services.ProcessingContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeBundleEmitterTest {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    @TempDir
+    Path folder;
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testTypesOfPackageShareFile() throws IOException {
+        final List<String> errors = new ArrayList<>();
+        final EmitContext context = createContext(errors);
+        final TypeBundleEmitter emitter = new TypeBundleEmitter(context.getNamingStrategy());
+
+        final TypeDefinition status = type("com.acme.dto", "Status", TypeKind.ENUM);
+        final TypeDefinition order = type("com.acme.dto", "Order", TypeKind.INTERFACE);
+        final TypeDefinition line = type("com.acme.dto", "Line", TypeKind.INTERFACE);
+        final TypeDefinition page = type("com.acme.api", "Page", TypeKind.INTERFACE);
+        emitter.add(status, "export enum Status {\n}\n", Set.of());
+        emitter.add(order, "export interface Order {\n  status: Status;\n}\n", Set.of(status, line));
+        emitter.add(line, "export interface Line {\n}\n", Set.of());
+        emitter.add(page, "export interface Page {\n  items: Order[];\n}\n", Set.of(order, line));
+        //Rendered again in a later round
+        emitter.add(line, "export interface Line {\n  count: number;\n}\n", Set.of());
+        emitter.renderBundles(context);
+
+        assertEquals("export interface Line {\n  count: number;\n}\n" +
+                "\n" +
+                "export interface Order {\n  status: Status;\n}\n" +
+                "\n" +
+                "export enum Status {\n}\n", read(folder.resolve("com/acme/dto/types.generated.ts")));
+        assertEquals("import {Line, Order} from '../dto/types.generated';\n" +
+                "\n" +
+                "export interface Page {\n  items: Order[];\n}\n", read(folder.resolve("com/acme/api/types.generated.ts")));
+        assertEquals(2, context.getStorageStrategy().getStatistics().getWrittenFiles());
+        assertEquals(List.of(), errors);
+    }
+
+    @Test
+    public void testDuplicateNamesInFileAreReported() throws IOException {
+        final List<String> errors = new ArrayList<>();
+        final EmitContext context = createContext(errors);
+        final TypeBundleEmitter emitter = new TypeBundleEmitter(context.getNamingStrategy());
+
+        final TypeDefinition first = type("com.acme.dto", "Item", TypeKind.INTERFACE);
+        final TypeDefinition second = type("com.acme.dto", "Other", TypeKind.INTERFACE);
+        second.setTypeScriptName("Item");
+        emitter.add(first, "export interface Item {\n}\n", Set.of());
+        emitter.add(second, "export interface Item {\n}\n", Set.of());
+        emitter.renderBundles(context);
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).contains("com.acme.dto.Item and com.acme.dto.Other are both emitted as Item"), errors.get(0));
+    }
+
+    private EmitContext createContext(final List<String> errors) {
+        final ProcessingContext context = TestUtils.createContext(String.join("\n",
+                "tsg.output-folder=" + folder.toString().replace('\\', '/'),
+                "tsg.output.layout=per-package",
+                "tsg.model-include="
+        ), errors);
+        final GenConfigBasedNamingStrategy naming = new GenConfigBasedNamingStrategy(context);
+        return new EmitContext(context, naming, new NioStorageStrategy(context, naming), new HashMap<>());
+    }
+
+    private TypeDefinition type(final String packageName, final String name, final TypeKind kind) {
+        final TypeDefinition definition = new TypeDefinition(packageName + "." + name, name);
+        definition.setContainer(new TypeContainer().setPackageElement(true).setFullName(packageName).setShortName(packageName));
+        definition.setTypeKind(kind);
+        definition.setTypeScriptName(name);
+        return definition;
+    }
+
+    private String read(final Path file) throws IOException {
+        return Files.readString(file, StandardCharsets.UTF_8);
+    }
+
+
+}
@@ -42,11 +42,11 @@ public class TypeDefinitionBuilderTest {
     // ------------------ Logic      --------------------
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/BasicController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.BasicController")
                 .orElseThrow(() -> new IllegalStateException("Basic Controller endpoint not found"));
     }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Test;
+import org.omega.typescript.processor.metrics.OutputSizes;
+import org.omega.typescript.processor.metrics.TypeGraphWriter;
+import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.model.TypeGraph;
+import org.omega.typescript.processor.model.TypeKind;
+import org.omega.typescript.processor.model.TypeGraph.Edge;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TypeGraphTest {
+
+    // ------------------ Constants  --------------------
+
+    private static final String CONTROLLER = "org.omega.typescript.processor.test.SpecificCompositeDtoController";
+
+    private static final String DTO_PACKAGE = "org.omega.typescript.processor.test.dto.";
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    private TypeGraph buildGraph() {
+        final ProcessingSession session = TestUtils.compileClass(
+                "/org/omega/typescript/processor/test/SpecificCompositeDtoController.java"
+        );
+        return TypeGraph.build(session.getEndpointContainer().getEndpointMap().values(), session.getOracle().getKnownTypes());
+    }
+
+    @Test
+    public void testReachability() {
+        final TypeGraph graph = buildGraph();
+
+        final Set<String> reachable = graph.getReachableTypes(CONTROLLER);
+        assertTrue(reachable.containsAll(List.of(DTO_PACKAGE + "SpecificCompositeDto", DTO_PACKAGE + "CompositeDto",
+                DTO_PACKAGE + "SimpleDto", DTO_PACKAGE + "HasName")), reachable.toString());
+        assertFalse(reachable.contains("java.lang.String"));
+    }
+
+    @Test
+    public void testTypesReachableFromEndpoints() {
+        final ProcessingSession session = TestUtils.compileClass(
+                "/org/omega/typescript/processor/test/SpecificCompositeDtoController.java"
+        );
+        final TypeDefinition orphan = new TypeDefinition(DTO_PACKAGE + "Orphan", "Orphan");
+        orphan.setTypeKind(TypeKind.INTERFACE);
+        session.getOracle().addType(orphan);
+
+        final TypeGraph graph = TypeGraph.build(session.getEndpointContainer().getEndpointMap().values(), session.getOracle().getKnownTypes());
+        final Set<String> reachable = graph.getTypesReachableFromEndpoints();
+
+        assertTrue(reachable.contains(DTO_PACKAGE + "SimpleDto"));
+        assertFalse(reachable.contains(DTO_PACKAGE + "Orphan"));
+        assertNotNull(graph.getNode(DTO_PACKAGE + "Orphan"));
+    }
+
+    @Test
+    public void testDiscoveryPath() {
+        final TypeGraph graph = buildGraph();
+
+        final Map<String, Edge> discoveryEdges = graph.getDiscoveryEdges();
+        final List<Edge> path = graph.getDiscoveryPath(DTO_PACKAGE + "SimpleDto", discoveryEdges);
+
+        assertEquals(3, path.size());
+        assertEquals(CONTROLLER, path.get(0).source());
+        assertEquals(TypeGraph.EdgeKind.RETURN_TYPE, path.get(0).kind());
+        assertEquals(TypeGraph.EdgeKind.SUPERTYPE, path.get(1).kind());
+        assertEquals(new Edge(DTO_PACKAGE + "CompositeDto", DTO_PACKAGE + "SimpleDto", TypeGraph.EdgeKind.PROPERTY, "simpleDto"), path.get(2));
+    }
+
+    @Test
+    public void testExport() throws Exception {
+        final TypeGraph graph = buildGraph();
+        final TypeGraphWriter writer = new TypeGraphWriter(graph, new OutputSizes(true));
+
+        final StringWriter json = new StringWriter();
+        writer.writeJson(json);
+        assertTrue(json.toString().contains("\"name\": \"" + CONTROLLER + "\""), json.toString());
+        assertTrue(json.toString().contains("\"transitiveTypes\": "), json.toString());
+
+        final StringWriter dot = new StringWriter();
+        writer.writeDot(dot);
+        assertTrue(dot.toString().startsWith("digraph tsg {"), dot.toString());
+        assertTrue(dot.toString().contains("\"" + DTO_PACKAGE + "CompositeDto\" -> \"" + DTO_PACKAGE + "SimpleDto\" [label=\"property simpleDto\"]"),
+                dot.toString());
+    }
+
+}
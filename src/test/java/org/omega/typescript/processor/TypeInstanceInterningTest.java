@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Test;
+import org.omega.typescript.processor.model.PropertyDefinition;
+import org.omega.typescript.processor.model.TypeDefinition;
+import org.omega.typescript.processor.model.TypeInstanceDefinition;
+import org.omega.typescript.processor.model.TypeInstanceInterner;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TypeInstanceInterningTest {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testInternerSharesInstances() {
+        final TypeInstanceInterner interner = new TypeInstanceInterner();
+        final TypeDefinition list = new TypeDefinition("java.util.List", "List");
+        final TypeDefinition dto = new TypeDefinition("org.test.OrderDto", "OrderDto");
+        final TypeDefinition sameNamedDto = new TypeDefinition("org.test.OrderDto", "OrderDto");
+
+        final TypeInstanceDefinition dtoInstance = interner.intern(dto, List.of());
+        assertSame(dtoInstance, interner.intern(dto, List.of()));
+        assertNotSame(dtoInstance, interner.intern(sameNamedDto, List.of()), "Keys must compare definitions by identity");
+
+        final TypeInstanceDefinition listOfDto = interner.intern(list, List.of(dtoInstance));
+        assertSame(listOfDto, interner.intern(list, List.of(interner.intern(dto, List.of()))));
+        assertNotSame(listOfDto, interner.intern(list, List.of()));
+        assertEquals(4, interner.size());
+
+        assertThrows(UnsupportedOperationException.class, () -> listOfDto.getGenericTypeArguments().add(dtoInstance));
+
+        interner.clear();
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void testEquivalentReferencesShareInstance() {
+        final ProcessingSession session = TestUtils.compileClass(
+                "/org/omega/typescript/processor/test/CollectionController.java"
+        );
+        final TypeInstanceDefinition collectionDto = session.getEndpointContainer()
+                .getEndpoint("org.omega.typescript.processor.test.CollectionController")
+                .flatMap(endpoint -> endpoint.getMethod("get"))
+                .map(method -> method.getReturnType())
+                .orElseThrow(() -> new IllegalStateException("CollectionController.get not found"));
+
+        final TypeInstanceDefinition stringArray = getPropertyType(collectionDto, "stringArray");
+        final TypeInstanceDefinition stringList = getPropertyType(collectionDto, "stringList");
+        final TypeInstanceDefinition stringSet = getPropertyType(collectionDto, "stringSet");
+        assertSame(stringArray, stringList);
+        assertSame(stringList, stringSet);
+        assertSame(stringList, session.getOracle().getInstance(stringList.getTypeDefinition(), stringList.getGenericTypeArguments()));
+
+        final TypeInstanceDefinition longCollection = getPropertyType(collectionDto, "longCollection");
+        assertNotSame(stringList, longCollection);
+        assertSame(stringList.getTypeDefinition(), longCollection.getTypeDefinition());
+    }
+
+    private TypeInstanceDefinition getPropertyType(final TypeInstanceDefinition owner, final String propertyName) {
+        return owner.getPropertyByName(propertyName)
+                .map(PropertyDefinition::getType)
+                .orElseThrow(() -> new IllegalArgumentException("Property " + propertyName + " not found"));
+    }
+
+}
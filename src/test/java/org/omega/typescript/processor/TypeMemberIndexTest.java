@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+import org.omega.typescript.processor.utils.TypeMemberIndex;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.JavaFileObject;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeMemberIndexTest {
+
+    // ------------------ Constants  --------------------
+
+    private static final JavaFileObject BASE_DTO = JavaFileObjects.forSourceString("sample.BaseDto", String.join("\n",
+            "package sample;",
+            "",
+            "public class BaseDto {",
+            "    protected String id;",
+            "    private String secret;",
+            "    public String getId() { return id; }",
+            "    public String describe() { return id; }",
+            "}"));
+
+    private static final JavaFileObject ORDER_DTO = JavaFileObjects.forSourceString("sample.OrderDto", String.join("\n",
+            "package sample;",
+            "",
+            "public class OrderDto extends BaseDto {",
+            "    private int amount;",
+            "    public int getAmount() { return amount; }",
+            "    @Override",
+            "    public String describe() { return id + amount; }",
+            "}"));
+
+    private static final JavaFileObject ORDER_LINE = JavaFileObjects.forSourceString("sample.OrderLine", String.join("\n",
+            "package sample;",
+            "",
+            "public record OrderLine(String sku, int quantity) {",
+            "}"));
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testInheritedMembersAreBucketedByDeclaringType() {
+        final Map<String, Object> results = new HashMap<>();
+        TestUtils.processSources(context -> {
+            final Elements elements = context.getProcessingEnv().getElementUtils();
+            final TypeElement baseDto = elements.getTypeElement("sample.BaseDto");
+            final TypeMemberIndex index = context.getMemberIndex(elements.getTypeElement("sample.OrderDto"));
+
+            results.put("fields", names(index.getFields()));
+            results.put("declaredFields", names(index.getDeclaredFields()));
+            results.put("baseFields", names(index.getMembers(ElementKind.FIELD, baseDto)));
+            results.put("methods", names(index.getMethods()));
+            results.put("declaredMethods", names(index.getDeclaredMethods()));
+            results.put("baseMethods", names(index.getMembers(ElementKind.METHOD, baseDto)));
+            results.put("objectMethods", names(index.getMembers(ElementKind.METHOD, elements.getTypeElement("java.lang.Object"))));
+            results.put("overrideDeclaringType", index.getMethods().stream()
+                    .filter(method -> method.getSimpleName().contentEquals("describe"))
+                    .map(method -> method.getEnclosingElement().getSimpleName().toString())
+                    .toList());
+            results.put("recordComponents", index.getRecordComponents().size());
+            results.put("enumConstants", index.getEnumConstants().size());
+            results.put("cached", index == context.getMemberIndex(index.getTypeElement()));
+        }, BASE_DTO, ORDER_DTO, ORDER_LINE);
+
+        assertEquals(Set.of("id", "amount"), results.get("fields"), "Private fields of the super class aren't members");
+        assertEquals(Set.of("amount"), results.get("declaredFields"));
+        assertEquals(Set.of("id"), results.get("baseFields"));
+        assertEquals(Set.of("getAmount", "describe"), results.get("declaredMethods"));
+        assertEquals(Set.of("getId"), results.get("baseMethods"), "The overridden method is only listed for the overriding type");
+        assertEquals(List.of("OrderDto"), results.get("overrideDeclaringType"));
+        assertTrue(((Set<?>) results.get("methods")).containsAll(Set.of("getAmount", "describe", "getId", "hashCode")));
+        assertTrue(((Set<?>) results.get("objectMethods")).contains("hashCode"));
+        assertEquals(0, results.get("recordComponents"));
+        assertEquals(0, results.get("enumConstants"));
+        assertSame(Boolean.TRUE, results.get("cached"));
+    }
+
+    @Test
+    public void testRecordComponents() {
+        final Map<String, Object> results = new HashMap<>();
+        TestUtils.processSources(context -> {
+            final TypeMemberIndex index = context.getMemberIndex(context.getProcessingEnv().getElementUtils().getTypeElement("sample.OrderLine"));
+
+            results.put("recordComponents", index.getRecordComponents().stream()
+                    .map(component -> component.getSimpleName().toString())
+                    .toList());
+            results.put("declaredFields", names(index.getDeclaredFields()));
+            results.put("declaredMethods", names(index.getDeclaredMethods()));
+        }, ORDER_LINE);
+
+        assertEquals(List.of("sku", "quantity"), results.get("recordComponents"));
+        assertEquals(Set.of("sku", "quantity"), results.get("declaredFields"));
+        assertTrue(((Set<?>) results.get("declaredMethods")).containsAll(Set.of("sku", "quantity")), "Accessors are declared by the record");
+    }
+
+    private static Set<String> names(final Collection<? extends Element> elements) {
+        return elements.stream()
+                .map(element -> element.getSimpleName().toString())
+                .collect(Collectors.toSet());
+    }
+
+}
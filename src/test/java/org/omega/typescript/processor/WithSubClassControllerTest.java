@@ -45,11 +45,11 @@ public class WithSubClassControllerTest {
 
 
     private Endpoint getEndpoint() {
-        final EndpointProcessorSingleton endpointProcessorSingleton = TestUtils.compileClass(
+        final ProcessingSession session = TestUtils.compileClass(
                 "/org/omega/typescript/processor/test/WithSubClassController.java"
         );
 
-        return endpointProcessorSingleton.getEndpointContainer()
+        return session.getEndpointContainer()
                 .getEndpoint("org.omega.typescript.processor.test.WithSubClassController")
                 .orElseThrow(() -> new IllegalStateException("WithSubClassController endpoint not found"));
     }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+
+
+package org.omega.typescript.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.omega.typescript.processor.services.BaseStorageStrategy;
+import org.omega.typescript.processor.services.NioStorageStrategy;
+import org.omega.typescript.processor.services.ProcessingContext;
+import org.omega.typescript.processor.services.WriteBehindStorageStrategy;
+import org.omega.typescript.processor.utils.LocalFileObject;
+
+import javax.tools.FileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WriteBehindStorageStrategyTest {
+
+    // ------------------ Constants  --------------------
+
+    private static final int FILE_COUNT = 200;
+
+    // ------------------ Fields     --------------------
+
+    @TempDir
+    Path folder;
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testQueuedFilesAreCompleteAfterClose() throws IOException {
+        final List<String> errors = new ArrayList<>();
+        final ProcessingContext context = TestUtils.createContext("", errors);
+        final WriteBehindStorageStrategy storage = new WriteBehindStorageStrategy(context, null,
+                new NioStorageStrategy(context, null), 2, 1);
+
+        for (int index = 0; index < FILE_COUNT; ++index) {
+            try (PrintWriter writer = storage.createWriter(folder.resolve("api/Type" + index + ".generated.ts").toString())) {
+                writer.print(content(index));
+            }
+        }
+        storage.close();
+
+        for (int index = 0; index < FILE_COUNT; ++index) {
+            assertEquals(content(index), Files.readString(folder.resolve("api/Type" + index + ".generated.ts"), StandardCharsets.UTF_8));
+        }
+        assertEquals(FILE_COUNT, storage.getStatistics().getWrittenFiles());
+        assertEquals(List.of(), errors);
+    }
+
+    @Test
+    public void testFailedWritesAreReportedOnClose() throws IOException {
+        final List<String> errors = new ArrayList<>();
+        final ProcessingContext context = TestUtils.createContext("", errors);
+        final WriteBehindStorageStrategy storage = new WriteBehindStorageStrategy(context, null,
+                new FailingStorageStrategy(context), 1, 1);
+
+        for (int index = 0; index < 3; ++index) {
+            try (PrintWriter writer = storage.createWriter("api/Broken" + index + ".generated.ts")) {
+                writer.print(content(index));
+            }
+        }
+
+        final IOException failure = assertThrows(IOException.class, storage::close);
+        assertTrue(failure.getMessage().startsWith("3 generated files failed to be written"), failure.getMessage());
+        assertEquals(3, errors.size());
+        assertTrue(errors.get(0).startsWith("Failed to write file api/Broken0.generated.ts"), errors.get(0));
+    }
+
+    private String content(final int index) {
+        return "export interface Type" + index + " {\n    name: string;\n}\n".repeat(1 + index % 5);
+    }
+
+    // ---------------------- Inner Definitions -------------------
+
+    private static class FailingStorageStrategy extends BaseStorageStrategy {
+
+        FailingStorageStrategy(final ProcessingContext context) {
+            super(context, null);
+        }
+
+        @Override
+        public FileObject getFile(final String filename, final Collection<String> originatingClasses) {
+            return new LocalFileObject(Path.of(filename).toFile()) {
+                @Override
+                public Writer openWriter() {
+                    return new Writer() {
+                        @Override
+                        public void write(final char[] buffer, final int offset, final int length) throws IOException {
+                            throw new IOException("Disk full");
+                        }
+
+                        @Override
+                        public void flush() {
+                        }
+
+                        @Override
+                        public void close() {
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2018-2026 William Frank (info@williamfrank.net)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package org.omega.typescript.processor;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.omega.typescript.processor.services.WriteIfChangedStorageStrategy;
+
+import javax.tools.FileObject;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WriteIfChangedStorageStrategyTest {
+
+    // ------------------ Constants  --------------------
+
+    private static final String ORDER = "export interface Order {\n}\n";
+
+    // ------------------ Fields     --------------------
+
+    @TempDir
+    Path folder;
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @Test
+    public void testUnchangedContentKeepsTheFile() throws IOException {
+        final Path order = folder.resolve("api/dto/Order.generated.ts");
+        write(createStorage(), order, ORDER);
+        final FileTime lastModified = FileTime.fromMillis(1_000_000_000L);
+        Files.setLastModifiedTime(order, lastModified);
+
+        WriteIfChangedStorageStrategy storage = createStorage();
+        write(storage, order, ORDER);
+        assertEquals(lastModified, Files.getLastModifiedTime(order));
+        assertEquals(1, storage.getStatistics().getSkippedFiles());
+        assertEquals(0, storage.getStatistics().getWrittenFiles());
+
+        storage = createStorage();
+        write(storage, order, "export interface Order {\n  id: number;\n}\n");
+        assertEquals("export interface Order {\n  id: number;\n}\n", Files.readString(order));
+        assertEquals(0, storage.getStatistics().getSkippedFiles());
+        assertEquals(1, storage.getStatistics().getWrittenFiles());
+    }
+
+    @Test
+    public void testSkipIsReportedPerFile() throws IOException {
+        final Path order = folder.resolve("api/dto/Order.generated.ts");
+        final Path invoice = folder.resolve("api/dto/Invoice.generated.ts");
+        write(createStorage(), order, ORDER);
+
+        final Path recordingFile = Files.createTempFile("tsg", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.omega.typescript.FileEmitted");
+            recording.start();
+            final WriteIfChangedStorageStrategy storage = createStorage();
+            final PrintWriter orderWriter = storage.createWriter(order.toString());
+            final PrintWriter invoiceWriter = storage.createWriter(invoice.toString());
+            orderWriter.print(ORDER);
+            invoiceWriter.print("export interface Invoice {\n}\n");
+            orderWriter.close();
+            invoiceWriter.close();
+            recording.stop();
+            recording.dump(recordingFile);
+
+            final Map<String, Boolean> skipped = RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(e -> "org.omega.typescript.FileEmitted".equals(e.getEventType().getName()))
+                    .collect(Collectors.toMap(e -> e.getString("fileName"), (RecordedEvent e) -> e.getBoolean("skipped")));
+            assertEquals(Map.of(order.toString(), true, invoice.toString(), false), skipped);
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+    @Test
+    public void testBufferedContentIsReadableOnceWritten() throws IOException {
+        final FileObject file = createStorage().getFile(folder.resolve("Order.generated.ts").toString());
+        assertThrows(IllegalStateException.class, () -> file.getCharContent(false));
+
+        try (Writer writer = file.openWriter()) {
+            writer.write(ORDER);
+        }
+        assertEquals(ORDER, file.getCharContent(false).toString());
+        try (BufferedReader reader = new BufferedReader(file.openReader(false))) {
+            assertEquals("export interface Order {", reader.readLine());
+        }
+        assertEquals(ORDER.length(), file.openInputStream().readAllBytes().length);
+    }
+
+    private WriteIfChangedStorageStrategy createStorage() {
+        return new WriteIfChangedStorageStrategy(TestUtils.createContext("", new ArrayList<>()), null);
+    }
+
+    private void write(final WriteIfChangedStorageStrategy storage, final Path file, final String content) throws IOException {
+        try (PrintWriter writer = storage.createWriter(file.toString())) {
+            writer.print(content);
+        }
+    }
+
+}
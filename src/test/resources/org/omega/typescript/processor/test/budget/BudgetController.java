@@ -0,0 +1,27 @@
+package org.omega.typescript.processor.test.budget;
+
+import org.omega.typescript.api.TypeScriptEndpoint;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@TypeScriptEndpoint(moduleName = "BudgetController")
+@RequestMapping(method = RequestMethod.GET, path = "/api/")
+public class BudgetController {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @GetMapping("get")
+    public Level1 get() {
+        return null;
+    }
+
+}
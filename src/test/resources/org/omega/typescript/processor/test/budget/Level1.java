@@ -0,0 +1,21 @@
+package org.omega.typescript.processor.test.budget;
+
+public class Level1 {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    public Level2 getNext() {
+        return null;
+    }
+
+    public Wide getWide() {
+        return null;
+    }
+
+    // ------------------ Logic      --------------------
+
+}
@@ -0,0 +1,17 @@
+package org.omega.typescript.processor.test.budget;
+
+public class Level2 {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    public Level3 getNext() {
+        return null;
+    }
+
+    // ------------------ Logic      --------------------
+
+}
@@ -0,0 +1,17 @@
+package org.omega.typescript.processor.test.budget;
+
+public class Level3 {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    public String getName() {
+        return null;
+    }
+
+    // ------------------ Logic      --------------------
+
+}
@@ -0,0 +1,29 @@
+package org.omega.typescript.processor.test.budget;
+
+public class Wide {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    public String getField1() {
+        return null;
+    }
+
+    public String getField2() {
+        return null;
+    }
+
+    public String getField3() {
+        return null;
+    }
+
+    public String getField4() {
+        return null;
+    }
+
+    // ------------------ Logic      --------------------
+
+}
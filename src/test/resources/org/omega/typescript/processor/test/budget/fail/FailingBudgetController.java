@@ -0,0 +1,28 @@
+package org.omega.typescript.processor.test.budget.fail;
+
+import org.omega.typescript.api.TypeScriptEndpoint;
+import org.omega.typescript.processor.test.budget.Level1;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@TypeScriptEndpoint(moduleName = "FailingBudgetController")
+@RequestMapping(method = RequestMethod.GET, path = "/api/")
+public class FailingBudgetController {
+
+    // ------------------ Constants  --------------------
+
+    // ------------------ Fields     --------------------
+
+    // ------------------ Properties --------------------
+
+    // ------------------ Logic      --------------------
+
+    @GetMapping("get")
+    public Level1 get() {
+        return null;
+    }
+
+}